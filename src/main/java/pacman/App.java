@@ -6,6 +6,9 @@ import javafx.stage.Stage;
 import pacman.model.engine.GameEngine;
 import pacman.model.engine.GameEngineImpl;
 import pacman.view.GameWindow;
+import pacman.view.assets.AssetCache;
+import pacman.view.assets.AssetCacheImpl;
+import pacman.view.renderer.RendererType;
 
 public class App extends Application {
 
@@ -13,10 +16,18 @@ public class App extends Application {
         launch(args);
     }
 
+    /**
+     * Starts the game. The way entities are drawn can be chosen with {@code --renderer=nodes} (the default)
+     * or {@code --renderer=canvas}.
+     */
     @Override
     public void start(Stage primaryStage) {
+        RendererType rendererType = RendererType.fromName(getParameters().getNamed().get("renderer"));
+        AssetCache assets = AssetCacheImpl.getShared();
+        assets.preloadSprites();
+
         GameEngine model = new GameEngineImpl("src/main/resources/config.json");
-        GameWindow window = new GameWindow(model, 448, 576);
+        GameWindow window = new GameWindow(model, 448, 576, rendererType, assets);
 
         primaryStage.setTitle("Pac-Man");
         primaryStage.setScene(window.getScene());
@@ -6,7 +6,13 @@ package pacman;
  */
 public class ConfigurationParseException extends RuntimeException {
 
+    private static final long serialVersionUID = 1L;
+
     public ConfigurationParseException(String error) {
         super(error);
     }
+
+    public ConfigurationParseException(String error, Throwable cause) {
+        super(error, cause);
+    }
 }
@@ -0,0 +1,17 @@
+/*DumpGhostTracesCommand.java*/
+package pacman.controller.command;
+
+import pacman.model.engine.GameEngine;
+
+public class DumpGhostTracesCommand implements Command {
+    private final GameEngine gameEngine;
+
+    public DumpGhostTracesCommand(GameEngine gameEngine) {
+        this.gameEngine = gameEngine;
+    }
+
+    @Override
+    public void execute() {
+        gameEngine.dumpGhostTraces(System.out);
+    }
+}
@@ -0,0 +1,239 @@
+/*FrameSnapshot.java*/
+package pacman.model.engine;
+
+import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
+import pacman.model.entity.dynamic.DynamicEntity;
+import pacman.model.entity.dynamic.physics.BoundingBox;
+import pacman.model.entity.staticentity.StaticEntity;
+import pacman.model.entity.staticentity.collectable.Collectable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Everything needed to draw one tick of the game, copied out of the model so it can be read on another thread.
+ * <p>
+ * Entity state is kept in parallel arrays indexed by the entity's position in the renderables list. Renderables
+ * are included only as identities for the view to key on; their state must be read from the snapshot.
+ * A snapshot copies every entity the first time it captures a renderables list, and after that only refreshes
+ * the entities that can change: dynamic entities, and the appearance of collectables.
+ * Snapshots are reused, so a snapshot handed out by a {@link SnapshotBuffer} must not be kept past the next
+ * call to {@link SnapshotBuffer#acquire()}.
+ */
+public class FrameSnapshot {
+
+    private Renderable[] renderables = new Renderable[0];
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private double[] previousX = new double[0];
+    private double[] previousY = new double[0];
+    private double[] width = new double[0];
+    private double[] height = new double[0];
+    private Sprite[] sprites = new Sprite[0];
+    private Renderable.Layer[] layers = new Renderable.Layer[0];
+    private boolean[] unchanging = new boolean[0];
+    private int[] dynamicIndices = new int[0];
+    private int[] collectableIndices = new int[0];
+    private int numDynamic;
+    private int numCollectables;
+    private List<Renderable> capturedEntities;
+    private int size;
+    private long tickNumber = -1;
+    private long tickTime;
+    private int score;
+    private int lives;
+    private boolean gameOver;
+    private boolean levelComplete;
+    private boolean readyToStart;
+
+    /**
+     * Copies the current state of the game into this snapshot
+     * @param gameEngine game to be copied
+     * @param tickNumber number of the tick just run
+     * @param tickTime time the tick finished, as given by {@link System#nanoTime()}
+     */
+    void capture(GameEngine gameEngine, long tickNumber, long tickTime) {
+        List<Renderable> entities = gameEngine.getRenderables();
+        if (entities != capturedEntities || entities.size() != size) {
+            captureAll(entities);
+        } else {
+            for (int i = 0; i < numDynamic; i++) {
+                captureDynamic(dynamicIndices[i]);
+            }
+            for (int i = 0; i < numCollectables; i++) {
+                captureAppearance(collectableIndices[i]);
+            }
+        }
+
+        this.tickNumber = tickNumber;
+        this.tickTime = tickTime;
+        this.score = gameEngine.getScore();
+        this.lives = gameEngine.getLives();
+        this.gameOver = gameEngine.isGameOver();
+        this.levelComplete = gameEngine.isLevelComplete();
+        this.readyToStart = gameEngine.isReadyToStart();
+    }
+
+    /**
+     * Copies every entity, and sorts out which of them need refreshing on later ticks
+     */
+    private void captureAll(List<Renderable> entities) {
+        ensureCapacity(entities.size());
+
+        size = entities.size();
+        numDynamic = 0;
+        numCollectables = 0;
+        for (int i = 0; i < size; i++) {
+            Renderable entity = entities.get(i);
+            BoundingBox boundingBox = entity.getBoundingBox();
+
+            renderables[i] = entity;
+            x[i] = boundingBox.getLeftX();
+            y[i] = boundingBox.getTopY();
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+            width[i] = entity.getWidth();
+            height[i] = entity.getHeight();
+            captureAppearance(i);
+            unchanging[i] = entity instanceof StaticEntity && !(entity instanceof Collectable);
+
+            if (entity instanceof DynamicEntity) {
+                dynamicIndices[numDynamic++] = i;
+                captureDynamic(i);
+            } else if (entity instanceof Collectable) {
+                collectableIndices[numCollectables++] = i;
+            }
+        }
+
+        capturedEntities = entities;
+    }
+
+    private void captureDynamic(int index) {
+        DynamicEntity entity = (DynamicEntity) renderables[index];
+        BoundingBox boundingBox = entity.getBoundingBox();
+        x[index] = boundingBox.getLeftX();
+        y[index] = boundingBox.getTopY();
+        previousX[index] = entity.getPreviousX();
+        previousY[index] = entity.getPreviousY();
+        captureAppearance(index);
+    }
+
+    private void captureAppearance(int index) {
+        sprites[index] = renderables[index].getSprite();
+        layers[index] = renderables[index].getLayer();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (renderables.length >= capacity) {
+            return;
+        }
+
+        renderables = Arrays.copyOf(renderables, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        sprites = Arrays.copyOf(sprites, capacity);
+        layers = Arrays.copyOf(layers, capacity);
+        unchanging = Arrays.copyOf(unchanging, capacity);
+        dynamicIndices = Arrays.copyOf(dynamicIndices, capacity);
+        collectableIndices = Arrays.copyOf(collectableIndices, capacity);
+    }
+
+    /**
+     * @return the number of entities in the snapshot
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return true, if no tick has been captured into the snapshot yet
+     */
+    public boolean isEmpty() {
+        return tickNumber < 0;
+    }
+
+    /**
+     * @param index index of the entity
+     * @return the entity, for use as an identity only
+     */
+    public Renderable getRenderable(int index) {
+        return renderables[index];
+    }
+
+    public double getX(int index) {
+        return x[index];
+    }
+
+    public double getY(int index) {
+        return y[index];
+    }
+
+    public double getPreviousX(int index) {
+        return previousX[index];
+    }
+
+    public double getPreviousY(int index) {
+        return previousY[index];
+    }
+
+    public double getWidth(int index) {
+        return width[index];
+    }
+
+    public double getHeight(int index) {
+        return height[index];
+    }
+
+    public Sprite getSprite(int index) {
+        return sprites[index];
+    }
+
+    public Renderable.Layer getLayer(int index) {
+        return layers[index];
+    }
+
+    /**
+     * Returns true if the entity never moves or changes appearance, such as a wall
+     * @param index index of the entity
+     * @return true, if the entity looks the same in every frame
+     */
+    public boolean isUnchanging(int index) {
+        return unchanging[index];
+    }
+
+    public long getTickNumber() {
+        return tickNumber;
+    }
+
+    /**
+     * @return time the tick finished, as given by {@link System#nanoTime()}
+     */
+    public long getTickTime() {
+        return tickTime;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public boolean isLevelComplete() {
+        return levelComplete;
+    }
+
+    public boolean isReadyToStart() {
+        return readyToStart;
+    }
+}
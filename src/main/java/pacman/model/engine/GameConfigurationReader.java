@@ -5,56 +5,179 @@ import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
+import pacman.ConfigurationParseException;
+import pacman.model.level.LevelConfiguration;
+import pacman.model.level.LevelConfigurationReader;
 
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Helper class to read Game Configuration from JSONObject
  */
 public class GameConfigurationReader {
 
+    private static final int DEFAULT_GHOST_TRACE_CAPACITY = 256;
+
     private JSONObject gameConfig;
 
+    /**
+     * @param configPath path of the game configuration file
+     * @throws ConfigurationParseException if the file cannot be found, read or parsed
+     */
     public GameConfigurationReader(String configPath){
         JSONParser parser = new JSONParser();
 
-        try {
-            this.gameConfig = (JSONObject) parser.parse(new FileReader(configPath));
+        Object config;
+        try (Reader reader = new FileReader(configPath)) {
+            config = parser.parse(reader);
         } catch (FileNotFoundException e) {
-            System.out.println("Config file not found");
-            System.exit(0);
+            throw new ConfigurationParseException("Config file " + configPath + " not found", e);
         } catch (IOException e) {
-            System.out.println("Error reading config file");
-            System.exit(0);
+            throw new ConfigurationParseException("Error reading config file " + configPath, e);
         } catch (ParseException e) {
-            System.out.println("Error parsing config file");
-            System.exit(0);
+            throw new ConfigurationParseException("Error parsing config file " + configPath, e);
         }
+
+        if (!(config instanceof JSONObject)) {
+            throw new ConfigurationParseException("Config file " + configPath + " must hold an object");
+        }
+        this.gameConfig = (JSONObject) config;
     }
 
     /**
      * Gets the path of map file
      * @return path of map file
+     * @throws ConfigurationParseException if no map file is configured
      */
     public String getMapFile(){
-        return (String) gameConfig.get("map");
+        Object mapFile = gameConfig.get("map");
+        if (!(mapFile instanceof String)) {
+            throw new ConfigurationParseException("Config file must name a map file");
+        }
+        return (String) mapFile;
     }
 
     /**
      * Gets the number of lives of player
      * @return number of lives of player
+     * @throws ConfigurationParseException if the number of lives is missing or not a number
      */
     public int getNumLives(){
-        return ((Number) gameConfig.get("numLives")).intValue();
+        Object numLives = gameConfig.get("numLives");
+        if (!(numLives instanceof Number)) {
+            throw new ConfigurationParseException("Config file must give the number of lives");
+        }
+        return ((Number) numLives).intValue();
+    }
+
+    /**
+     * Gets whether the kinematic state of dynamic entities should be packed into a shared store.
+     * Defaults to false when not configured.
+     * @return true, if dynamic entities should use a packed kinematic store
+     */
+    public boolean isPackedKinematics(){
+        Object packedKinematics = gameConfig.get("packedKinematics");
+        return packedKinematics instanceof Boolean && (Boolean) packedKinematics;
+    }
+
+    /**
+     * Gets the seed for the game's random choices, if one is configured
+     * @return the configured seed, or null if the game should pick its own
+     */
+    public Long getSeed(){
+        Object seed = gameConfig.get("seed");
+        return seed instanceof Number ? ((Number) seed).longValue() : null;
+    }
+
+    /**
+     * Gets the ghosts whose direction decisions should be traced, by their position in the map.
+     * Defaults to none when not configured.
+     * @return indices of the traced ghosts
+     * @throws ConfigurationParseException if the ghosts are not listed as non-negative whole numbers
+     */
+    public List<Integer> getTracedGhosts(){
+        JSONObject ghostTrace = getGhostTrace();
+        if (ghostTrace == null) {
+            return List.of();
+        }
+
+        Object ghosts = ghostTrace.get("ghosts");
+        if (!(ghosts instanceof JSONArray)) {
+            throw new ConfigurationParseException("ghostTrace must list the ghosts to trace");
+        }
+
+        List<Integer> tracedGhosts = new ArrayList<>();
+        for (Object ghost : (JSONArray) ghosts) {
+            if (!(ghost instanceof Long) || (Long) ghost < 0) {
+                throw new ConfigurationParseException("ghostTrace ghosts must be non-negative whole numbers");
+            }
+            tracedGhosts.add(((Long) ghost).intValue());
+        }
+        return List.copyOf(tracedGhosts);
     }
 
     /**
-     * Gets JSONArray of level configurations
-     * @return  JSONArray of level configurations
+     * Gets the maximum number of decisions kept for each traced ghost. Defaults to 256 when not configured.
+     * @return capacity of each ghost's trace
+     * @throws ConfigurationParseException if the capacity is not positive
      */
-    public JSONArray getLevelConfigs(){
-        return (JSONArray) gameConfig.get("levels");
+    public int getGhostTraceCapacity(){
+        return getGhostTraceSetting("capacity", DEFAULT_GHOST_TRACE_CAPACITY);
+    }
+
+    /**
+     * Gets how often traced ghosts record a decision, as every n-th decision. Defaults to 1 when not configured.
+     * @return sample interval of each ghost's trace
+     * @throws ConfigurationParseException if the interval is not positive
+     */
+    public int getGhostTraceSampleInterval(){
+        return getGhostTraceSetting("sampleInterval", 1);
+    }
+
+    private JSONObject getGhostTrace(){
+        Object ghostTrace = gameConfig.get("ghostTrace");
+        if (ghostTrace != null && !(ghostTrace instanceof JSONObject)) {
+            throw new ConfigurationParseException("ghostTrace must be an object");
+        }
+        return (JSONObject) ghostTrace;
+    }
+
+    private int getGhostTraceSetting(String key, int defaultValue){
+        JSONObject ghostTrace = getGhostTrace();
+        Object value = ghostTrace == null ? null : ghostTrace.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (!(value instanceof Long) || (Long) value <= 0 || (Long) value > Integer.MAX_VALUE) {
+            throw new ConfigurationParseException("ghostTrace " + key + " must be a positive whole number");
+        }
+        return ((Long) value).intValue();
+    }
+
+    /**
+     * Reads and validates the configuration of every level
+     * @return the level configurations, in order, which cannot be modified
+     * @throws ConfigurationParseException if there are no levels, or a level is invalid
+     */
+    public List<LevelConfiguration> getLevelConfigs(){
+        Object levels = gameConfig.get("levels");
+        if (!(levels instanceof JSONArray) || ((JSONArray) levels).isEmpty()) {
+            throw new ConfigurationParseException("Config file must list at least one level");
+        }
+
+        List<LevelConfiguration> levelConfigs = new ArrayList<>();
+        for (Object level : (JSONArray) levels) {
+            int levelNo = levelConfigs.size() + 1;
+            if (!(level instanceof JSONObject)) {
+                throw new ConfigurationParseException("Level " + levelNo + ": must be an object");
+            }
+            levelConfigs.add(new LevelConfigurationReader((JSONObject) level, levelNo).read());
+        }
+        return List.copyOf(levelConfigs);
     }
 }
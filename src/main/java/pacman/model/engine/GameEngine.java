@@ -2,6 +2,8 @@
 package pacman.model.engine;
 
 import pacman.model.entity.Renderable;
+
+import java.io.PrintStream;
 import java.util.List;
 
 
@@ -50,9 +52,23 @@ public interface GameEngine {
     void addObserver(GameObserver observer);
     void removeObserver(GameObserver observer);
     int getScore();
+
+    /**
+     * Gets the seed the game's random choices are derived from; the same seed and inputs always produce the same ticks
+     *
+     * @return seed of the game
+     */
+    long getSeed();
     int getLives();
     boolean isGameOver();
     boolean isLevelComplete();
     boolean isReadyToStart();
 
+    /**
+     * Writes the decision traces of the ghosts traced by the configuration, oldest decision first
+     *
+     * @param out stream to write to
+     */
+    void dumpGhostTraces(PrintStream out);
+
 }
@@ -1,22 +1,29 @@
 /*GameEngineImpl.java*/
 package pacman.model.engine;
 
-import org.json.simple.JSONArray;
-import org.json.simple.JSONObject;
+import pacman.ConfigurationParseException;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.dynamic.ghost.Ghost;
+import pacman.model.entity.dynamic.ghost.GhostDecisionTrace;
+import pacman.model.entity.dynamic.physics.KinematicStore;
 import pacman.model.level.Level;
+import pacman.model.level.LevelConfiguration;
 import pacman.model.level.LevelImpl;
 import pacman.model.maze.Maze;
 import pacman.model.maze.MazeCreator;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * Implementation of GameEngine - responsible for coordinating the Pac-Man model
  */
 public class GameEngineImpl implements GameEngine {
 
+    private static final int INITIAL_KINEMATIC_STORE_CAPACITY = 16;
+
     private int score = 0;
     private boolean gameOver = false;
     private boolean levelComplete = false;
@@ -26,24 +33,63 @@ public class GameEngineImpl implements GameEngine {
     private int numLevels;
     private int currentLevelNo; 
     private Maze maze;
-    private JSONArray levelConfigs;
+    private List<LevelConfiguration> levelConfigs;
+    private long seed;
+    private List<Integer> tracedGhosts;
+    private List<GhostDecisionTrace> ghostTraces;
+    private long numTicks;
+
     public GameEngineImpl(String configPath) {
+        this(configPath, null);
+    }
+
+    /**
+     * @param configPath path of the game configuration file
+     * @param seed seed for the game's random choices, overriding any seed in the configuration; if neither is
+     *             given, a seed is picked at random
+     * @throws ConfigurationParseException if the configuration, map or any level cannot be read or is invalid
+     */
+    public GameEngineImpl(String configPath, Long seed) {
         this.currentLevelNo = 0;
-        init(new GameConfigurationReader(configPath));
+        init(new GameConfigurationReader(configPath), seed);
     }
 
-    private void init(GameConfigurationReader gameConfigurationReader) {
+    private void init(GameConfigurationReader gameConfigurationReader, Long seed) {
+        if (seed == null) {
+            seed = gameConfigurationReader.getSeed();
+        }
+        this.seed = seed != null ? seed : new SplittableRandom().nextLong();
+
         // Set up map
         String mapFile = gameConfigurationReader.getMapFile();
-        MazeCreator mazeCreator = new MazeCreator(mapFile);
+        KinematicStore kinematicStore = gameConfigurationReader.isPackedKinematics()
+                ? new KinematicStore(INITIAL_KINEMATIC_STORE_CAPACITY)
+                : null;
+        MazeCreator mazeCreator = new MazeCreator(mapFile, kinematicStore, this.seed);
         this.maze = mazeCreator.createMaze();
         this.maze.setNumLives(gameConfigurationReader.getNumLives());
 
-        // Get level configurations
+        attachGhostTraces(gameConfigurationReader);
+
+        // Read and validate every level up front, so starting a level does no parsing
         this.levelConfigs = gameConfigurationReader.getLevelConfigs();
         this.numLevels = levelConfigs.size();
-        if (levelConfigs.isEmpty()) {
-            System.exit(0);
+    }
+
+    private void attachGhostTraces(GameConfigurationReader gameConfigurationReader) {
+        this.tracedGhosts = gameConfigurationReader.getTracedGhosts();
+        this.ghostTraces = new ArrayList<>();
+        int capacity = gameConfigurationReader.getGhostTraceCapacity();
+        int sampleInterval = gameConfigurationReader.getGhostTraceSampleInterval();
+        List<Renderable> ghosts = maze.getGhosts();
+        for (int ghostNo : tracedGhosts) {
+            if (ghostNo >= ghosts.size()) {
+                throw new ConfigurationParseException("ghostTrace names ghost " + ghostNo + ", but the map only has "
+                        + ghosts.size() + " ghosts");
+            }
+            GhostDecisionTrace ghostTrace = new GhostDecisionTrace(capacity, sampleInterval);
+            ((Ghost) ghosts.get(ghostNo)).setDecisionTrace(ghostTrace);
+            ghostTraces.add(ghostTrace);
         }
     }
 
@@ -79,7 +125,7 @@ public class GameEngineImpl implements GameEngine {
     }
 
     private void startLevel() {
-        JSONObject levelConfig = (JSONObject) levelConfigs.get(currentLevelNo);
+        LevelConfiguration levelConfig = levelConfigs.get(currentLevelNo);
         maze.reset();
         this.currentLevel = new LevelImpl(levelConfig, maze);
         score = 0;
@@ -107,6 +153,7 @@ public class GameEngineImpl implements GameEngine {
 
     @Override
     public void tick() {
+        numTicks++;
         if (!gameOver && !levelComplete) {
             if (readyToStart) {
                 if (tickCount > 100) { 
@@ -114,6 +161,9 @@ public class GameEngineImpl implements GameEngine {
                 }
                 tickCount++;
             } else {
+                for (GhostDecisionTrace ghostTrace : ghostTraces) {
+                    ghostTrace.setTick(numTicks);
+                }
                 currentLevel.tick();
                 score = currentLevel.getScore();
                 
@@ -142,6 +192,11 @@ public class GameEngineImpl implements GameEngine {
         return score;
     }
 
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
     @Override
     public int getLives() {
         return maze.getNumLives();
@@ -162,5 +217,14 @@ public class GameEngineImpl implements GameEngine {
         return readyToStart;
     }
 
+    @Override
+    public void dumpGhostTraces(PrintStream out) {
+        for (int i = 0; i < ghostTraces.size(); i++) {
+            out.println("ghost " + tracedGhosts.get(i) + ":");
+            ghostTraces.get(i).dump(out);
+        }
+        out.flush();
+    }
+
 }
 
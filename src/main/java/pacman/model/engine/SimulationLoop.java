@@ -0,0 +1,135 @@
+/*SimulationLoop.java*/
+package pacman.model.engine;
+
+import pacman.controller.command.Command;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs a game on its own thread at a fixed tick rate.
+ * <p>
+ * The game is only touched by the simulation thread. Other threads send input as commands, which are executed
+ * before the next tick, and read the game through the frame snapshots published after every tick. If the game
+ * throws, the loop logs the exception, keeps it for {@link #getFailure()} and stops.
+ */
+public class SimulationLoop {
+
+    private static final Logger LOGGER = Logger.getLogger(SimulationLoop.class.getName());
+    public static final long DEFAULT_TICK_NANOS = 34_000_000;
+    private static final int MAX_CATCH_UP_TICKS = 5;
+    private final GameEngine gameEngine;
+    private final long tickNanos;
+    private final Queue<Command> commands;
+    private final SnapshotBuffer snapshots;
+    private final Thread thread;
+    private volatile boolean running;
+    private volatile RuntimeException failure;
+
+    public SimulationLoop(GameEngine gameEngine) {
+        this(gameEngine, DEFAULT_TICK_NANOS);
+    }
+
+    /**
+     * @param gameEngine game to be run
+     * @param tickNanos time between ticks, in nanoseconds
+     */
+    public SimulationLoop(GameEngine gameEngine, long tickNanos) {
+        this.gameEngine = gameEngine;
+        this.tickNanos = tickNanos;
+        this.commands = new ConcurrentLinkedQueue<>();
+        this.snapshots = new SnapshotBuffer();
+        this.thread = new Thread(this::run, "simulation");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts the game and begins ticking it
+     */
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Stops ticking the game
+     */
+    public void stop() {
+        running = false;
+        thread.interrupt();
+    }
+
+    /**
+     * Queues a command to be executed on the simulation thread before the next tick
+     * @param command command to be executed
+     */
+    public void submit(Command command) {
+        commands.add(command);
+    }
+
+    /**
+     * Gets the frame published after the latest tick. Should only be called from a single consumer thread.
+     * @return the latest frame, which is empty until the game has started
+     */
+    public FrameSnapshot getLatestSnapshot() {
+        return snapshots.acquire();
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * @return the exception that stopped the game, or null if it has not failed
+     */
+    public RuntimeException getFailure() {
+        return failure;
+    }
+
+    private void run() {
+        try {
+            runTicks();
+        } catch (RuntimeException e) {
+            failure = e;
+            running = false;
+            LOGGER.log(Level.SEVERE, "Simulation stopped after the game failed", e);
+        }
+    }
+
+    private void runTicks() {
+        gameEngine.startGame();
+        long tickNumber = 0;
+        publish(tickNumber, System.nanoTime());
+
+        long deadline = System.nanoTime() + tickNanos;
+        while (running) {
+            long now = System.nanoTime();
+            if (now < deadline) {
+                LockSupport.parkNanos(deadline - now);
+                continue;
+            }
+
+            Command command;
+            while ((command = commands.poll()) != null) {
+                command.execute();
+            }
+
+            gameEngine.tick();
+            publish(++tickNumber, System.nanoTime());
+
+            // after a long stall, drop the missed ticks rather than running them all at once
+            deadline += tickNanos;
+            if (System.nanoTime() - deadline > MAX_CATCH_UP_TICKS * tickNanos) {
+                deadline = System.nanoTime();
+            }
+        }
+    }
+
+    private void publish(long tickNumber, long tickTime) {
+        snapshots.getBack().capture(gameEngine, tickNumber, tickTime);
+        snapshots.publish();
+    }
+}
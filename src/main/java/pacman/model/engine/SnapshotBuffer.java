@@ -0,0 +1,54 @@
+/*SnapshotBuffer.java*/
+package pacman.model.engine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free triple buffer handing frame snapshots from one producer thread to one consumer thread.
+ * <p>
+ * The producer always has a snapshot of its own to write into, and the consumer always has a complete snapshot
+ * to read, so neither thread ever waits for the other. The third snapshot sits between them, holding the latest
+ * published frame; frames the consumer is too slow to pick up are simply overwritten.
+ */
+public class SnapshotBuffer {
+
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH = 0b100;
+    private final FrameSnapshot[] snapshots;
+    private final AtomicInteger middle;
+    private int back;
+    private int front;
+
+    public SnapshotBuffer() {
+        this.snapshots = new FrameSnapshot[] {new FrameSnapshot(), new FrameSnapshot(), new FrameSnapshot()};
+        this.back = 0;
+        this.middle = new AtomicInteger(1);
+        this.front = 2;
+    }
+
+    /**
+     * Gets the snapshot the producer should write the next frame into
+     * @return the producer's snapshot
+     */
+    FrameSnapshot getBack() {
+        return snapshots[back];
+    }
+
+    /**
+     * Publishes the producer's snapshot as the latest frame, and gives the producer a new snapshot to write into
+     */
+    void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Gets the latest published frame. The consumer keeps the same snapshot until a newer frame is published.
+     * @return the latest frame, which is empty if none has been published yet
+     */
+    public FrameSnapshot acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return snapshots[front];
+    }
+}
@@ -1,7 +1,6 @@
 /*Renderable.java*/
 package pacman.model.entity;
 
-import javafx.scene.image.Image;
 import pacman.model.entity.dynamic.physics.BoundingBox;
 import pacman.model.entity.dynamic.physics.Vector2D;
 
@@ -11,9 +10,9 @@ import pacman.model.entity.dynamic.physics.Vector2D;
 public interface Renderable {
 
     /**
-     * @return image of renderable
+     * @return sprite of renderable
      */
-    Image getImage();
+    Sprite getSprite();
 
     /**
      * @return width of renderable image
@@ -0,0 +1,56 @@
+/*Sprite.java*/
+package pacman.model.entity;
+
+/**
+ * Identifies the sprite a renderable is drawn with.
+ * <p>
+ * Each sprite declares the size of its image, so the model can size entities without decoding any images;
+ * turning a sprite into an image is left to the view.
+ */
+public enum Sprite {
+    HORIZONTAL_WALL("walls/horizontal.png", 16, 16),
+    VERTICAL_WALL("walls/vertical.png", 16, 16),
+    UP_LEFT_WALL("walls/upLeft.png", 16, 16),
+    UP_RIGHT_WALL("walls/upRight.png", 16, 16),
+    DOWN_LEFT_WALL("walls/downLeft.png", 16, 16),
+    DOWN_RIGHT_WALL("walls/downRight.png", 16, 16),
+    PELLET("pellet.png", 16, 16),
+    PACMAN_UP("pacman/playerUp.png", 26, 24),
+    PACMAN_DOWN("pacman/playerDown.png", 26, 24),
+    PACMAN_LEFT("pacman/playerLeft.png", 24, 26),
+    PACMAN_RIGHT("pacman/playerRight.png", 24, 26),
+    PACMAN_CLOSED("pacman/playerClosed.png", 24, 26),
+    GHOST("ghosts/ghost.png", 28, 28);
+
+    private static final String RESOURCE_PATH = "/maze/";
+    private final String resourcePath;
+    private final double width;
+    private final double height;
+
+    Sprite(String fileName, double width, double height) {
+        this.resourcePath = RESOURCE_PATH + fileName;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * @return path of the sprite's image resource
+     */
+    public String getResourcePath() {
+        return resourcePath;
+    }
+
+    /**
+     * @return width of the sprite's image
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * @return height of the sprite's image
+     */
+    public double getHeight() {
+        return height;
+    }
+}
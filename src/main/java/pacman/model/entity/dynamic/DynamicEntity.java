@@ -14,15 +14,35 @@ import java.util.Set;
 public interface DynamicEntity extends Renderable {
 
     /**
-     * Updates the position of the Dynamic Entity
+     * Updates the direction of the Dynamic Entity, then moves it
      */
     void update();
 
+    /**
+     * Chooses the direction the Dynamic Entity moves in next
+     */
+    void updateDirection();
+
+    /**
+     * Moves the Dynamic Entity one step in its current direction
+     */
+    void move();
+
     /**
      * @return Vector2 The previous top left anchor position prior to the last update.
      */
     Vector2D getPositionBeforeLastUpdate();
 
+    /**
+     * @return the top left x position prior to the last update
+     */
+    double getPreviousX();
+
+    /**
+     * @return the top left y position prior to the last update
+     */
+    double getPreviousY();
+
     /**
      * Sets the position of the Dynamic Entity
      *
@@ -30,6 +50,14 @@ public interface DynamicEntity extends Renderable {
      */
     void setPosition(Vector2D position);
 
+    /**
+     * Sets the top left position of the Dynamic Entity
+     *
+     * @param x x position to be used
+     * @param y y position to be used
+     */
+    void setPosition(double x, double y);
+
     /**
      * Checks if Dynamic Entity has collided with renderable
      *
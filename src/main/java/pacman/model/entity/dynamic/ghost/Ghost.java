@@ -2,7 +2,8 @@
 package pacman.model.entity.dynamic.ghost;
 
 import pacman.model.entity.dynamic.DynamicEntity;
-import pacman.model.entity.dynamic.physics.Vector2D;
+import pacman.model.maze.DistanceOracle;
+import pacman.model.maze.FlowField;
 
 import java.util.Map;
 
@@ -23,8 +24,33 @@ public interface Ghost extends DynamicEntity {
      */
     void setGhostMode(GhostMode ghostMode);
     /**
-     * Sets the current position of the player (Pac-Man)
-     * @param playerPosition current position of the player
+     * Sets the current center of the player (Pac-Man), which the Ghost targets when chasing
+     * @param x x position of the player's center
+     * @param y y position of the player's center
      */
-    void setPlayerPosition(Vector2D playerPosition);
+    void setPlayerCenter(double x, double y);
+
+    /**
+     * Sets the oracle used to measure path distances through the maze when choosing directions
+     * @param distanceOracle the distance oracle, or null to use straight-line distances
+     */
+    void setDistanceOracle(DistanceOracle distanceOracle);
+
+    /**
+     * Sets the flow field towards the player, shared by all ghosts, used to choose directions in CHASE mode
+     * @param chaseField the flow field towards the player, or null to measure distances to the player directly
+     */
+    void setChaseField(FlowField chaseField);
+
+    /**
+     * Sets the trace the Ghost records its direction decisions to
+     * @param decisionTrace trace to record decisions to, or null to disable tracing
+     */
+    void setDecisionTrace(GhostDecisionTrace decisionTrace);
+
+    /**
+     * Gets the trace the Ghost records its direction decisions to
+     * @return the decision trace, or null if tracing is disabled
+     */
+    GhostDecisionTrace getDecisionTrace();
 }
@@ -0,0 +1,130 @@
+/*GhostDecisionTrace.java*/
+package pacman.model.entity.dynamic.ghost;
+
+import pacman.model.entity.dynamic.physics.Direction;
+
+import java.io.PrintStream;
+
+/**
+ * Fixed-size ring buffer of a ghost's direction decisions, for debugging ghost movement.
+ * <p>
+ * Records are stored in preallocated primitive arrays, so recording never allocates. Once the buffer is full,
+ * the oldest records are overwritten. A ghost without a trace does no tracing work at all. Each record carries
+ * the number of the game tick it was made on, so it lines up with frame snapshots and session logs.
+ */
+public class GhostDecisionTrace {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final byte NO_DIRECTION = -1;
+    private final int capacity;
+    private final int sampleInterval;
+    private final long[] ticks;
+    private final int[] tileX;
+    private final int[] tileY;
+    private final byte[] candidates;
+    private final float[] distances;
+    private final byte[] chosen;
+    private long decisionCount;
+    private long tick;
+    private int next;
+    private int size;
+
+    /**
+     * @param capacity       maximum number of records kept
+     * @param sampleInterval record every n-th decision; 1 records every decision
+     */
+    public GhostDecisionTrace(int capacity, int sampleInterval) {
+        if (capacity <= 0 || sampleInterval <= 0) {
+            throw new IllegalArgumentException("Trace capacity and sample interval must be positive");
+        }
+
+        this.capacity = capacity;
+        this.sampleInterval = sampleInterval;
+        this.ticks = new long[capacity];
+        this.tileX = new int[capacity];
+        this.tileY = new int[capacity];
+        this.candidates = new byte[capacity];
+        this.distances = new float[capacity * DIRECTIONS.length];
+        this.chosen = new byte[capacity];
+    }
+
+    /**
+     * Sets the number of the game tick being run, which is recorded with the decisions made during it
+     * @param tick number of the tick, counting the game's first tick as 1
+     */
+    public void setTick(long tick) {
+        this.tick = tick;
+    }
+
+    /**
+     * Starts a new decision, returning whether it falls on the sampling interval and should be recorded
+     * @return true, if the decision should be recorded
+     */
+    public boolean beginDecision() {
+        return decisionCount++ % sampleInterval == 0;
+    }
+
+    /**
+     * Records the decision last started with {@link #beginDecision()}, with the tick set by {@link #setTick(long)}
+     * @param tileX          grid X position of the ghost
+     * @param tileY          grid Y position of the ghost
+     * @param candidateMask  direction mask of the candidate directions (see {@link Direction#mask()})
+     * @param distances      distance to target for each candidate, indexed by direction ordinal
+     * @param chosenDirection the direction chosen, or null if none was
+     */
+    public void record(int tileX, int tileY, int candidateMask, double[] distances, Direction chosenDirection) {
+        int index = next;
+        this.ticks[index] = tick;
+        this.tileX[index] = tileX;
+        this.tileY[index] = tileY;
+        this.candidates[index] = (byte) candidateMask;
+        for (Direction direction : DIRECTIONS) {
+            boolean isCandidate = (candidateMask & direction.mask()) != 0;
+            this.distances[index * DIRECTIONS.length + direction.ordinal()] =
+                    isCandidate ? (float) distances[direction.ordinal()] : Float.NaN;
+        }
+        this.chosen[index] = chosenDirection == null ? NO_DIRECTION : (byte) chosenDirection.ordinal();
+
+        next = (next + 1) % capacity;
+        size = Math.min(size + 1, capacity);
+    }
+
+    /**
+     * @return the number of records currently held
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Discards all records
+     */
+    public void clear() {
+        next = 0;
+        size = 0;
+    }
+
+    /**
+     * Writes the held records to the stream, oldest first
+     * @param out stream to write to
+     */
+    public void dump(PrintStream out) {
+        int first = (next - size + capacity) % capacity;
+        for (int i = 0; i < size; i++) {
+            int index = (first + i) % capacity;
+            StringBuilder line = new StringBuilder()
+                    .append("tick=").append(ticks[index])
+                    .append(" tile=(").append(tileX[index]).append(", ").append(tileY[index]).append(")");
+
+            for (Direction direction : DIRECTIONS) {
+                if ((candidates[index] & direction.mask()) != 0) {
+                    line.append(' ').append(direction).append('=')
+                            .append(distances[index * DIRECTIONS.length + direction.ordinal()]);
+                }
+            }
+
+            line.append(" chosen=").append(chosen[index] == NO_DIRECTION ? "NONE" : DIRECTIONS[chosen[index]]);
+            out.println(line);
+        }
+    }
+}
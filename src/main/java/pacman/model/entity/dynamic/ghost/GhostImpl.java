@@ -1,36 +1,44 @@
 /*GhostImpl.java*/
 package pacman.model.entity.dynamic.ghost;
 
-import javafx.scene.image.Image;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
 import pacman.model.entity.dynamic.physics.*;
 import pacman.model.level.Level;
+import pacman.model.maze.DistanceOracle;
+import pacman.model.maze.FlowField;
 import pacman.model.maze.Maze;
 import java.util.*;
-import java.util.logging.Logger;
 
 /**
  * Concrete implemention of Ghost entity in Pac-Man Game
  */
 public class GhostImpl implements Ghost {
 
+    private static final Direction[] DIRECTIONS = Direction.values();
     private final Layer layer = Layer.FOREGROUND;
-    private final Image image;
+    private final Sprite sprite;
     private final BoundingBox boundingBox;
     private final Vector2D startingPosition;
     private final Vector2D targetCorner;
-    private KinematicState kinematicState;
+    private final KinematicState kinematicState;
     private GhostMode ghostMode;
-    private Vector2D targetLocation;
+    private double targetX;
+    private double targetY;
     private Direction currentDirection;
     private Set<Direction> possibleDirections;
-    private Vector2D playerPosition;
-    private Map<GhostMode, Double> speeds;
-    private static final Logger LOGGER = Logger.getLogger(GhostImpl.class.getName());
-
-
-    public GhostImpl(Image image, BoundingBox boundingBox, KinematicState kinematicState, GhostMode ghostMode, Vector2D targetCorner, Direction currentDirection) {
-        this.image = image;
+    private boolean hasPlayerCenter;
+    private double playerCenterX;
+    private double playerCenterY;
+    private final double[] speeds = new double[GhostMode.values().length];
+    private final double[] candidateDistances = new double[DIRECTIONS.length];
+    private GhostDecisionTrace decisionTrace;
+    private DistanceOracle distanceOracle;
+    private FlowField chaseField;
+
+
+    public GhostImpl(Sprite sprite, BoundingBox boundingBox, KinematicState kinematicState, GhostMode ghostMode, Vector2D targetCorner, Direction currentDirection) {
+        this.sprite = sprite;
         this.boundingBox = boundingBox;
         this.kinematicState = kinematicState;
         this.startingPosition = kinematicState.getPosition();
@@ -38,57 +46,61 @@ public class GhostImpl implements Ghost {
         this.currentDirection = currentDirection;
         this.possibleDirections = new HashSet<>();
         this.targetCorner = targetCorner;
-        this.targetLocation = getTargetLocation();
+        updateTargetLocation();
     }
 
     @Override
     public void setSpeeds(Map<GhostMode, Double> speeds) {
-        this.speeds = speeds;
+        // copied into an array, so switching mode does no map lookup or unboxing
+        for (Map.Entry<GhostMode, Double> speed : speeds.entrySet()) {
+            this.speeds[speed.getKey().ordinal()] = speed.getValue();
+        }
     }
 
     @Override
-    public Image getImage() {
-        return image;
+    public Sprite getSprite() {
+        return sprite;
     }
 
     @Override
     public void update() {
         this.updateDirection();
+        this.move();
+    }
+
+    @Override
+    public void move() {
         this.kinematicState.update();
-        this.boundingBox.setTopLeft(this.kinematicState.getPosition());
     }
 
-    public void setPlayerPosition(Vector2D playerPosition) {
-        this.playerPosition = playerPosition;
+    @Override
+    public void setPlayerCenter(double x, double y) {
+        this.hasPlayerCenter = true;
+        this.playerCenterX = x;
+        this.playerCenterY = y;
     }
     
-    private void updateDirection() {
-        Set<Direction> availableDirections = new HashSet<>(Arrays.asList(Direction.values()));
-        System.out.println("All possible directions: " + availableDirections);
-        
-        availableDirections.retainAll(possibleDirections);
-        
-        System.out.println("Available directions after filtering: " + availableDirections);
-
-        this.targetLocation = getTargetLocation();
-        Direction newDirection = selectDirection(availableDirections);
-        
- 
-        Vector2D newPosition = this.kinematicState.getPotentialPosition(newDirection);
-        if (newPosition.equals(this.getPosition())) {
-            System.out.println("Hit a wall, force changing direction");
-            availableDirections.remove(newDirection);
-            if (!availableDirections.isEmpty()) {
-                newDirection = selectDirection(availableDirections);
+    @Override
+    public void updateDirection() {
+        int availableDirections = 0;
+        for (Direction direction : DIRECTIONS) {
+            if (possibleDirections.contains(direction)) {
+                availableDirections |= direction.mask();
             }
         }
 
+        updateTargetLocation();
+        Direction newDirection = selectDirection(availableDirections);
+
+        if (decisionTrace != null && decisionTrace.beginDecision()) {
+            decisionTrace.record(Maze.toTile(boundingBox.getMiddleX()), Maze.toTile(boundingBox.getMiddleY()),
+                    availableDirections, candidateDistances, newDirection);
+        }
+
         if (newDirection != null) {
             this.currentDirection = newDirection;
         }
 
-        System.out.println("Final direction: " + this.currentDirection);
-
         switch (this.currentDirection) {
             case LEFT -> this.kinematicState.left();
             case RIGHT -> this.kinematicState.right();
@@ -97,38 +109,103 @@ public class GhostImpl implements Ghost {
         }
     }
 
-    private Vector2D getTargetLocation() {
-        return switch (this.ghostMode) {
-            case CHASE -> this.playerPosition != null ? this.playerPosition : this.targetCorner;
-            case SCATTER -> this.targetCorner;
-        };
+    /**
+     * Targets the player's center when chasing, and the ghost's corner otherwise
+     */
+    private void updateTargetLocation() {
+        if (this.ghostMode == GhostMode.CHASE && this.hasPlayerCenter) {
+            this.targetX = this.playerCenterX;
+            this.targetY = this.playerCenterY;
+        } else {
+            this.targetX = this.targetCorner.getX();
+            this.targetY = this.targetCorner.getY();
+        }
     }
 
-    private Direction selectDirection(Set<Direction> availableDirections) {
-        if (availableDirections.isEmpty()) {
-            System.out.println("No available directions, keeping current direction: " + currentDirection);
+    /**
+     * Selects the available direction that brings the ghost closest to its target location.
+     * Directions are compared by the shortest path through the maze from the neighbouring tile, with ties and
+     * unreachable targets falling back to the straight-line distance. When chasing, path distances are read
+     * from the shared flow field towards the player. Both distances are measured from the ghost's center, the
+     * same reference point as the target.
+     * @param availableDirections direction mask of the available directions
+     * @return the closest direction, or the current direction if none are available
+     */
+    private Direction selectDirection(int availableDirections) {
+        if (availableDirections == 0) {
             return currentDirection;
         }
 
-        Map<Direction, Double> distances = new HashMap<>();
+        int tileX = Maze.toTile(boundingBox.getMiddleX());
+        int tileY = Maze.toTile(boundingBox.getMiddleY());
+        int targetTileX = Maze.toTile(this.targetX);
+        int targetTileY = Maze.toTile(this.targetY);
+
+        Direction chosenDirection = null;
+        double chosenPathDistance = Double.POSITIVE_INFINITY;
+        double chosenDistance = Double.POSITIVE_INFINITY;
 
-        for (Direction direction : availableDirections) {
-            Vector2D potentialPosition = this.kinematicState.getPotentialPosition(direction);
-            double distance = Vector2D.calculateEuclideanDistance(potentialPosition, this.targetLocation);
-            distances.put(direction, distance);
-            System.out.println("Direction: " + direction + ", Potential Position: " + potentialPosition + ", Distance: " + distance);
+        for (Direction direction : DIRECTIONS) {
+            if ((availableDirections & direction.mask()) == 0) {
+                continue;
+            }
+
+            double pathDistance = getPathDistance(tileX + direction.getUnitX(), tileY + direction.getUnitY(),
+                    targetTileX, targetTileY);
+            double distance = Vector2D.calculateEuclideanDistance(
+                    this.kinematicState.getPotentialX(direction) + boundingBox.getWidth() / 2,
+                    this.kinematicState.getPotentialY(direction) + boundingBox.getHeight() / 2,
+                    this.targetX, this.targetY);
+            candidateDistances[direction.ordinal()] = Double.isInfinite(pathDistance) ? distance : pathDistance;
+
+            if (chosenDirection == null || pathDistance < chosenPathDistance ||
+                    (pathDistance == chosenPathDistance && distance < chosenDistance)) {
+                chosenDirection = direction;
+                chosenPathDistance = pathDistance;
+                chosenDistance = distance;
+            }
         }
 
-        Direction chosenDirection = Collections.min(distances.entrySet(), Map.Entry.comparingByValue()).getKey();
-        System.out.println("Chosen direction: " + chosenDirection);
-        
         return chosenDirection;
     }
 
+    private double getPathDistance(int fromX, int fromY, int toX, int toY) {
+        int distance;
+        if (this.ghostMode == GhostMode.CHASE && chaseField != null) {
+            distance = chaseField.distance(fromX, fromY);
+        } else if (distanceOracle != null) {
+            distance = distanceOracle.distance(fromX, fromY, toX, toY);
+        } else {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        return distance == DistanceOracle.UNREACHABLE ? Double.POSITIVE_INFINITY : distance;
+    }
+
+    @Override
+    public void setChaseField(FlowField chaseField) {
+        this.chaseField = chaseField;
+    }
+
+    @Override
+    public void setDistanceOracle(DistanceOracle distanceOracle) {
+        this.distanceOracle = distanceOracle;
+    }
+
+    @Override
+    public void setDecisionTrace(GhostDecisionTrace decisionTrace) {
+        this.decisionTrace = decisionTrace;
+    }
+
+    @Override
+    public GhostDecisionTrace getDecisionTrace() {
+        return decisionTrace;
+    }
+
     @Override
     public void setGhostMode(GhostMode ghostMode) {
         this.ghostMode = ghostMode;
-        this.kinematicState.setSpeed(speeds.get(ghostMode));
+        this.kinematicState.setSpeed(speeds[ghostMode.ordinal()]);
     }
 
     @Override
@@ -148,6 +225,16 @@ public class GhostImpl implements Ghost {
         return this.kinematicState.getPreviousPosition();
     }
 
+    @Override
+    public double getPreviousX() {
+        return this.kinematicState.getPreviousX();
+    }
+
+    @Override
+    public double getPreviousY() {
+        return this.kinematicState.getPreviousY();
+    }
+
     @Override
     public double getHeight() {
         return this.boundingBox.getHeight();
@@ -168,6 +255,11 @@ public class GhostImpl implements Ghost {
         this.kinematicState.setPosition(position);
     }
 
+    @Override
+    public void setPosition(double x, double y) {
+        this.kinematicState.setPosition(x, y);
+    }
+
     @Override
     public Layer getLayer() {
         return this.layer;
@@ -181,9 +273,7 @@ public class GhostImpl implements Ghost {
     @Override
     public void reset() {
         // return ghost to starting position
-        this.kinematicState = new KinematicStateImpl.KinematicStateBuilder()
-                .setPosition(startingPosition)
-                .build();
+        this.kinematicState.reset(startingPosition, 0, Direction.LEFT);
     }
 
     @Override
@@ -6,6 +6,11 @@ package pacman.model.entity.dynamic.physics;
  */
 public interface BoundingBox {
 
+    /**
+     * How far inside the leading edge of a box its collision probe sits, in pixels
+     */
+    int COLLISION_OFFSET = 4;
+
     /**
      * @return The horizontal width of this volume, in pixels.
      */
@@ -20,13 +25,34 @@ public interface BoundingBox {
      * @param box The volume that is checked for overlap.
      * @return boolean This returns true if this box overlaps with the provided box, taking into account direction.
      */
-    boolean collidesWith(Direction direction, BoundingBox box);
+    default boolean collidesWith(Direction direction, BoundingBox box) {
+        return switch (direction) {
+            case LEFT -> box.containsPoint(this.getLeftX() + COLLISION_OFFSET, this.getMiddleY());
+            case RIGHT -> box.containsPoint(this.getRightX() - COLLISION_OFFSET, this.getMiddleY());
+            case UP -> box.containsPoint(this.getMiddleX(), this.getTopY() + COLLISION_OFFSET);
+            case DOWN -> box.containsPoint(this.getMiddleX(), this.getBottomY() - COLLISION_OFFSET);
+        };
+    }
 
     /**
      * @param point 2D location to be queried.
      * @return boolean True if this volume contains the provided point.
      */
-    boolean containsPoint(Vector2D point);
+    default boolean containsPoint(Vector2D point) {
+        return containsPoint(point.getX(), point.getY());
+    }
+
+    /**
+     * @param x x coordinate of the location to be queried.
+     * @param y y coordinate of the location to be queried.
+     * @return boolean True if this volume contains the provided point.
+     */
+    default boolean containsPoint(double x, double y) {
+        return x > getLeftX() &&
+                x < getRightX() &&
+                y < getBottomY() &&
+                y > getTopY();
+    }
 
     /**
      * @return double The x coordinate of the left most wall of the box.
@@ -55,6 +81,12 @@ public interface BoundingBox {
      */
     void setTopLeft(Vector2D topLeft);
 
+    /**
+     * @param x x coordinate of the new top left anchor for the volume.
+     * @param y y coordinate of the new top left anchor for the volume.
+     */
+    void setTopLeft(double x, double y);
+
 
     /**
      * Gets the middle X position of the bounding box
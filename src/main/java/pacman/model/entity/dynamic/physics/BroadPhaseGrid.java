@@ -0,0 +1,114 @@
+/*BroadPhaseGrid.java*/
+package pacman.model.entity.dynamic.physics;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid used as a collision broad phase.
+ * <p>
+ * Each inserted box is bucketed by the cell containing its top left corner, and clearing only resets the cells
+ * that were used, so the grid can be rebuilt every tick in O(n) without allocating, however large the world.
+ * Queries return the ids of all boxes that could overlap the query box; exact overlap is left to the caller's
+ * narrow phase.
+ */
+public class BroadPhaseGrid {
+
+    private static final int EMPTY = -1;
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] cellHeads;
+    private int[] next;
+    private int[] usedCells;
+    private int numUsedCells;
+    private double maxWidth;
+    private double maxHeight;
+
+    /**
+     * @param worldWidth  width of the area covered by the grid, in pixels
+     * @param worldHeight height of the area covered by the grid, in pixels
+     * @param cellSize    width and height of each cell, in pixels
+     * @param capacity    expected number of boxes; the grid grows if more are inserted
+     */
+    public BroadPhaseGrid(double worldWidth, double worldHeight, double cellSize, int capacity) {
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(worldWidth / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+        this.cellHeads = new int[columns * rows];
+        this.next = new int[Math.max(1, capacity)];
+        this.usedCells = new int[Math.max(1, capacity)];
+        Arrays.fill(cellHeads, EMPTY);
+    }
+
+    /**
+     * Removes all boxes from the grid
+     */
+    public void clear() {
+        for (int i = 0; i < numUsedCells; i++) {
+            cellHeads[usedCells[i]] = EMPTY;
+        }
+        numUsedCells = 0;
+        maxWidth = 0;
+        maxHeight = 0;
+    }
+
+    /**
+     * Adds a box to the grid
+     * @param id  non-negative id reported back by queries
+     * @param box the box to be added
+     */
+    public void insert(int id, BoundingBox box) {
+        if (id >= next.length) {
+            next = Arrays.copyOf(next, Math.max(id + 1, next.length * 2));
+        }
+
+        int cell = row(box.getTopY()) * columns + column(box.getLeftX());
+        if (cellHeads[cell] == EMPTY) {
+            if (numUsedCells == usedCells.length) {
+                usedCells = Arrays.copyOf(usedCells, numUsedCells * 2);
+            }
+            usedCells[numUsedCells++] = cell;
+        }
+        next[id] = cellHeads[cell];
+        cellHeads[cell] = id;
+
+        maxWidth = Math.max(maxWidth, box.getWidth());
+        maxHeight = Math.max(maxHeight, box.getHeight());
+    }
+
+    /**
+     * Finds every inserted box that may overlap the given box
+     * @param box        the box to be queried
+     * @param candidates buffer the candidate ids are written to; must be able to hold every inserted id
+     * @return the number of candidate ids written
+     */
+    public int query(BoundingBox box, int[] candidates) {
+        // boxes are bucketed by top left corner, so widen the search up and left by the largest box
+        int minColumn = column(box.getLeftX() - maxWidth);
+        int maxColumn = column(box.getRightX());
+        int minRow = row(box.getTopY() - maxHeight);
+        int maxRow = row(box.getBottomY());
+
+        int count = 0;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                for (int id = cellHeads[row * columns + column]; id != EMPTY; id = next[id]) {
+                    candidates[count++] = id;
+                }
+            }
+        }
+        return count;
+    }
+
+    private int column(double x) {
+        return clamp((int) Math.floor(x / cellSize), columns);
+    }
+
+    private int row(double y) {
+        return clamp((int) Math.floor(y / cellSize), rows);
+    }
+
+    private static int clamp(int index, int size) {
+        return Math.max(0, Math.min(size - 1, index));
+    }
+}
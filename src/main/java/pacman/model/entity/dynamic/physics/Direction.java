@@ -1,11 +1,30 @@
 /*Direction.java*/
 package pacman.model.entity.dynamic.physics;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Represents the cardinal directions allowed for movement in Pac-Man
  */
 public enum Direction {
-    UP, DOWN, LEFT, RIGHT;
+    UP(0, -1), DOWN(0, 1), LEFT(-1, 0), RIGHT(1, 0);
+
+    /**
+     * Mask with the bit of every direction set
+     */
+    public static final int ALL_MASK = (1 << values().length) - 1;
+    private static final List<Set<Direction>> SETS_BY_MASK = createSetsByMask();
+    private final int unitX;
+    private final int unitY;
+
+    Direction(int unitX, int unitY) {
+        this.unitX = unitX;
+        this.unitY = unitY;
+    }
 
     /**
      * Retrieves the opposite direction
@@ -19,4 +38,51 @@ public enum Direction {
             case RIGHT -> LEFT;
         };
     }
+
+    /**
+     * Retrieves the x component of a unit step in this direction
+     * @return -1, 0 or 1; x increases to the right of the screen
+     */
+    public int getUnitX() {
+        return unitX;
+    }
+
+    /**
+     * Retrieves the y component of a unit step in this direction
+     * @return -1, 0 or 1; y increases down the screen
+     */
+    public int getUnitY() {
+        return unitY;
+    }
+
+    /**
+     * Retrieves the bit representing this direction in a direction mask
+     * @return the bit of this direction
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Retrieves the shared, unmodifiable set of directions represented by a direction mask
+     * @param mask direction mask, with a bit set for each direction in the set
+     * @return the set of directions in the mask
+     */
+    public static Set<Direction> setOf(int mask) {
+        return SETS_BY_MASK.get(mask & ALL_MASK);
+    }
+
+    private static List<Set<Direction>> createSetsByMask() {
+        List<Set<Direction>> sets = new ArrayList<>();
+        for (int mask = 0; mask <= ALL_MASK; mask++) {
+            Set<Direction> directions = EnumSet.noneOf(Direction.class);
+            for (Direction direction : values()) {
+                if ((mask & direction.mask()) != 0) {
+                    directions.add(direction);
+                }
+            }
+            sets.add(Collections.unmodifiableSet(directions));
+        }
+        return sets;
+    }
 }
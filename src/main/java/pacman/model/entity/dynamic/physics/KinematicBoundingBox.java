@@ -0,0 +1,73 @@
+/*KinematicBoundingBox.java*/
+package pacman.model.entity.dynamic.physics;
+
+/**
+ * Bounding box of a moving entity, anchored at the top left position held by its kinematic state.
+ * <p>
+ * The box keeps no position of its own, so it follows the entity however the entity is moved, and never has
+ * to be kept in step with it.
+ */
+public class KinematicBoundingBox implements BoundingBox {
+    private final KinematicState kinematicState;
+    private final double width;
+    private final double height;
+
+    public KinematicBoundingBox(
+            KinematicState kinematicState,
+            double height,
+            double width) {
+        this.kinematicState = kinematicState;
+        this.width = width;
+        this.height = height;
+    }
+
+    @Override
+    public double getWidth() {
+        return width;
+    }
+
+    @Override
+    public double getHeight() {
+        return height;
+    }
+
+    @Override
+    public double getLeftX() {
+        return kinematicState.getX();
+    }
+
+    @Override
+    public double getMiddleX() {
+        return kinematicState.getX() + width / 2;
+    }
+
+    @Override
+    public double getRightX() {
+        return kinematicState.getX() + width;
+    }
+
+    @Override
+    public double getTopY() {
+        return kinematicState.getY();
+    }
+
+    @Override
+    public double getMiddleY() {
+        return kinematicState.getY() + height / 2;
+    }
+
+    @Override
+    public double getBottomY() {
+        return kinematicState.getY() + height;
+    }
+
+    @Override
+    public void setTopLeft(Vector2D topLeft) {
+        kinematicState.setPosition(topLeft);
+    }
+
+    @Override
+    public void setTopLeft(double x, double y) {
+        kinematicState.setPosition(x, y);
+    }
+}
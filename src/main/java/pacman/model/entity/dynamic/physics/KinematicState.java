@@ -16,6 +16,26 @@ public interface KinematicState {
      */
     Vector2D getPosition();
 
+    /**
+     * @return double The x coordinate of the current position.
+     */
+    double getX();
+
+    /**
+     * @return double The y coordinate of the current position.
+     */
+    double getY();
+
+    /**
+     * @return double The x coordinate of the position before the last update.
+     */
+    double getPreviousX();
+
+    /**
+     * @return double The y coordinate of the position before the last update.
+     */
+    double getPreviousY();
+
     /**
      * Retrieves the potential position given a possible direction
      * @param direction the direction
@@ -23,11 +43,32 @@ public interface KinematicState {
      */
     Vector2D getPotentialPosition(Direction direction);
 
+    /**
+     * Retrieves the x coordinate of the potential position given a possible direction
+     * @param direction the direction
+     * @return the x coordinate of the position given the direction
+     */
+    double getPotentialX(Direction direction);
+
+    /**
+     * Retrieves the y coordinate of the potential position given a possible direction
+     * @param direction the direction
+     * @return the y coordinate of the position given the direction
+     */
+    double getPotentialY(Direction direction);
+
     /**
      * @param position The new position of this state.
      */
     void setPosition(Vector2D position);
 
+    /**
+     * Sets the position of this state in place
+     * @param x The new x coordinate.
+     * @param y The new y coordinate.
+     */
+    void setPosition(double x, double y);
+
     /**
      * @param speed The new velocity of this state.
      */
@@ -44,6 +85,14 @@ public interface KinematicState {
      */
     void update();
 
+    /**
+     * Returns the state to the given starting values, clearing the previous position
+     * @param position the starting position
+     * @param speed the starting speed
+     * @param direction the starting direction
+     */
+    void reset(Vector2D position, double speed, Direction direction);
+
     /**
      * Updates the Dynamic entity's direction and velocity to correspond with left
      */
@@ -3,12 +3,21 @@ package pacman.model.entity.dynamic.physics;
 
 /**
  * Discrete kinematic state implementation.
+ * <p>
+ * Positions are held as primitives and updated in place; the Vector2D accessors materialise an
+ * immutable snapshot lazily, and reuse it until the position next changes.
  */
 public class KinematicStateImpl implements KinematicState {
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private double x;
+    private double y;
+    private double previousX;
+    private double previousY;
     private Vector2D position;
     private Vector2D previousPosition;
     private double speed;
-    private Vector2D velocity;
+    private final double[] velocityX = new double[DIRECTIONS.length];
+    private final double[] velocityY = new double[DIRECTIONS.length];
     private Direction direction;
 
     private KinematicStateImpl(
@@ -16,47 +25,91 @@ public class KinematicStateImpl implements KinematicState {
             double speed,
             Direction direction
             ) {
-        this.position = position;
-        this.previousPosition = position;
-        this.speed = speed;
-        this.velocity = createVelocityVector(direction);
-        this.direction = direction;
+        reset(position, speed, direction);
     }
 
     @Override
     public Vector2D getPosition() {
+        if (this.position == null) {
+            this.position = new Vector2D(x, y);
+        }
         return this.position;
     }
 
+    @Override
+    public double getX() {
+        return this.x;
+    }
+
+    @Override
+    public double getY() {
+        return this.y;
+    }
+
     @Override
     public void setPosition(Vector2D position) {
+        this.x = position.getX();
+        this.y = position.getY();
         this.position = position;
     }
 
+    @Override
+    public void setPosition(double x, double y) {
+        this.x = x;
+        this.y = y;
+        this.position = null;
+    }
+
     @Override
     public void setSpeed(double speed) {
         this.speed = speed;
-        this.velocity = createVelocityVector(direction);
+        updateVelocityTable();
     }
 
     @Override
     public void update() {
+        this.previousX = x;
+        this.previousY = y;
         this.previousPosition = position;
-        this.position = this.position.add(this.velocity);
+        this.x += velocityX[direction.ordinal()];
+        this.y += velocityY[direction.ordinal()];
+        this.position = null;
+    }
+
+    @Override
+    public void reset(Vector2D position, double speed, Direction direction) {
+        setPosition(position);
+        this.previousX = x;
+        this.previousY = y;
+        this.previousPosition = position;
+        this.speed = speed;
+        this.direction = direction;
+        updateVelocityTable();
     }
 
-    private Vector2D createVelocityVector(Direction direction) {
-        return switch (direction) {
-            case LEFT -> new Vector2D(-speed, 0);
-            case RIGHT -> new Vector2D(speed, 0);
-            case UP -> new Vector2D(0, -speed);
-            case DOWN -> new Vector2D(0, speed);
-        };
+    /**
+     * Caches the velocity for every direction at the current speed, so turning and moving never allocate
+     */
+    private void updateVelocityTable() {
+        for (Direction direction : DIRECTIONS) {
+            velocityX[direction.ordinal()] = direction.getUnitX() * speed;
+            velocityY[direction.ordinal()] = direction.getUnitY() * speed;
+        }
     }
 
     @Override
     public Vector2D getPotentialPosition(Direction direction) {
-        return this.position.add(createVelocityVector(direction));
+        return new Vector2D(getPotentialX(direction), getPotentialY(direction));
+    }
+
+    @Override
+    public double getPotentialX(Direction direction) {
+        return this.x + velocityX[direction.ordinal()];
+    }
+
+    @Override
+    public double getPotentialY(Direction direction) {
+        return this.y + velocityY[direction.ordinal()];
     }
 
     @Override
@@ -67,25 +120,21 @@ public class KinematicStateImpl implements KinematicState {
     @Override
     public void left(){
         this.direction = Direction.LEFT;
-        this.velocity = createVelocityVector(Direction.LEFT);
     }
 
     @Override
     public void right(){
         this.direction = Direction.RIGHT;
-        this.velocity = createVelocityVector(Direction.RIGHT);
     }
 
     @Override
     public void up(){
         this.direction = Direction.UP;
-        this.velocity = createVelocityVector(Direction.UP);
     }
 
     @Override
     public void down(){
         this.direction = Direction.DOWN;
-        this.velocity = createVelocityVector(Direction.DOWN);
     }
 
     @Override
@@ -95,13 +144,27 @@ public class KinematicStateImpl implements KinematicState {
 
     @Override
     public Vector2D getPreviousPosition() {
+        if (this.previousPosition == null) {
+            this.previousPosition = new Vector2D(previousX, previousY);
+        }
         return previousPosition;
     }
 
+    @Override
+    public double getPreviousX() {
+        return this.previousX;
+    }
+
+    @Override
+    public double getPreviousY() {
+        return this.previousY;
+    }
+
     public static class KinematicStateBuilder {
         private Vector2D position = Vector2D.ZERO;
         private double speed = 0;
         private Direction direction = Direction.LEFT;
+        private KinematicStore store;
 
         public KinematicStateBuilder setPosition(Vector2D position) {
             this.position = position;
@@ -118,7 +181,21 @@ public class KinematicStateImpl implements KinematicState {
             return this;
         }
 
-        public KinematicStateImpl build() {
+        /**
+         * Backs the built state with a slot in the given store, rather than a standalone object
+         * @param store the store to allocate the state in, or null for a standalone state
+         * @return this builder
+         */
+        public KinematicStateBuilder setStore(KinematicStore store) {
+            this.store = store;
+            return this;
+        }
+
+        public KinematicState build() {
+            if (this.store != null) {
+                return this.store.allocate(this.position, this.speed, this.direction);
+            }
+
             return new KinematicStateImpl(
                     this.position,
                     this.speed,
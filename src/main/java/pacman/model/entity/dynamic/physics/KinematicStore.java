@@ -0,0 +1,245 @@
+/*KinematicStore.java*/
+package pacman.model.entity.dynamic.physics;
+
+import java.util.Arrays;
+
+/**
+ * Structure-of-arrays store for the kinematic state of many dynamic entities.
+ * <p>
+ * Positions, previous positions, velocities, speeds and directions are kept in primitive arrays indexed by
+ * entity id, and entities access their slot through a thin {@link KinematicState} view. This keeps the state
+ * of every moving entity contiguous in memory, rather than spread across the heap in separate objects, and lets
+ * {@link #update()} move every entity in a single pass over the arrays.
+ * <p>
+ * As in {@link KinematicStateImpl}, the Vector2D accessors of a view materialise an immutable snapshot lazily,
+ * and reuse it until the position next changes.
+ */
+public class KinematicStore {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private double[] positionX;
+    private double[] positionY;
+    private double[] previousX;
+    private double[] previousY;
+    private Vector2D[] positions;
+    private Vector2D[] previousPositions;
+    private double[] velocityX;
+    private double[] velocityY;
+    private double[] speeds;
+    private byte[] directions;
+    private int size;
+
+    public KinematicStore(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.positionX = new double[capacity];
+        this.positionY = new double[capacity];
+        this.previousX = new double[capacity];
+        this.previousY = new double[capacity];
+        this.positions = new Vector2D[capacity];
+        this.previousPositions = new Vector2D[capacity];
+        this.velocityX = new double[capacity];
+        this.velocityY = new double[capacity];
+        this.speeds = new double[capacity];
+        this.directions = new byte[capacity];
+    }
+
+    /**
+     * Allocates a slot in the store for a new entity
+     * @param position starting position of the entity
+     * @param speed starting speed of the entity
+     * @param direction starting direction of the entity
+     * @return the kinematic state view backed by the new slot
+     */
+    public KinematicState allocate(Vector2D position, double speed, Direction direction) {
+        if (size == speeds.length) {
+            grow();
+        }
+
+        int id = size++;
+        reset(id, position, speed, direction);
+        return new StoredState(id);
+    }
+
+    /**
+     * @return the number of entities in the store
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Moves every entity in the store one step along its current velocity
+     */
+    public void update() {
+        for (int id = 0; id < size; id++) {
+            update(id);
+        }
+    }
+
+    private void update(int id) {
+        previousX[id] = positionX[id];
+        previousY[id] = positionY[id];
+        previousPositions[id] = positions[id];
+        positionX[id] += velocityX[id];
+        positionY[id] += velocityY[id];
+        positions[id] = null;
+    }
+
+    private void reset(int id, Vector2D position, double speed, Direction direction) {
+        positionX[id] = position.getX();
+        positionY[id] = position.getY();
+        previousX[id] = position.getX();
+        previousY[id] = position.getY();
+        positions[id] = position;
+        previousPositions[id] = position;
+        speeds[id] = speed;
+        setDirection(id, direction);
+    }
+
+    private void setDirection(int id, Direction direction) {
+        directions[id] = (byte) direction.ordinal();
+        updateVelocity(id);
+    }
+
+    private void updateVelocity(int id) {
+        Direction direction = DIRECTIONS[directions[id]];
+        velocityX[id] = direction.getUnitX() * speeds[id];
+        velocityY[id] = direction.getUnitY() * speeds[id];
+    }
+
+    private void grow() {
+        int capacity = speeds.length * 2;
+        positionX = Arrays.copyOf(positionX, capacity);
+        positionY = Arrays.copyOf(positionY, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        previousPositions = Arrays.copyOf(previousPositions, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        speeds = Arrays.copyOf(speeds, capacity);
+        directions = Arrays.copyOf(directions, capacity);
+    }
+
+    /**
+     * Kinematic state of a single entity, backed by its slot in the store
+     */
+    private final class StoredState implements KinematicState {
+        private final int id;
+
+        private StoredState(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public Vector2D getPreviousPosition() {
+            if (previousPositions[id] == null) {
+                previousPositions[id] = new Vector2D(previousX[id], previousY[id]);
+            }
+            return previousPositions[id];
+        }
+
+        @Override
+        public Vector2D getPosition() {
+            if (positions[id] == null) {
+                positions[id] = new Vector2D(positionX[id], positionY[id]);
+            }
+            return positions[id];
+        }
+
+        @Override
+        public double getX() {
+            return positionX[id];
+        }
+
+        @Override
+        public double getY() {
+            return positionY[id];
+        }
+
+        @Override
+        public double getPreviousX() {
+            return previousX[id];
+        }
+
+        @Override
+        public double getPreviousY() {
+            return previousY[id];
+        }
+
+        @Override
+        public Vector2D getPotentialPosition(Direction direction) {
+            return new Vector2D(getPotentialX(direction), getPotentialY(direction));
+        }
+
+        @Override
+        public double getPotentialX(Direction direction) {
+            return positionX[id] + direction.getUnitX() * speeds[id];
+        }
+
+        @Override
+        public double getPotentialY(Direction direction) {
+            return positionY[id] + direction.getUnitY() * speeds[id];
+        }
+
+        @Override
+        public void setPosition(Vector2D position) {
+            positionX[id] = position.getX();
+            positionY[id] = position.getY();
+            positions[id] = position;
+        }
+
+        @Override
+        public void setPosition(double x, double y) {
+            positionX[id] = x;
+            positionY[id] = y;
+            positions[id] = null;
+        }
+
+        @Override
+        public void setSpeed(double speed) {
+            speeds[id] = speed;
+            updateVelocity(id);
+        }
+
+        @Override
+        public double getSpeed() {
+            return speeds[id];
+        }
+
+        @Override
+        public void update() {
+            KinematicStore.this.update(id);
+        }
+
+        @Override
+        public void reset(Vector2D position, double speed, Direction direction) {
+            KinematicStore.this.reset(id, position, speed, direction);
+        }
+
+        @Override
+        public void left() {
+            setDirection(id, Direction.LEFT);
+        }
+
+        @Override
+        public void right() {
+            setDirection(id, Direction.RIGHT);
+        }
+
+        @Override
+        public void up() {
+            setDirection(id, Direction.UP);
+        }
+
+        @Override
+        public void down() {
+            setDirection(id, Direction.DOWN);
+        }
+
+        @Override
+        public Direction getDirection() {
+            return DIRECTIONS[directions[id]];
+        }
+    }
+}
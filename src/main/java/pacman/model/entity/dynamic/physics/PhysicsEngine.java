@@ -23,9 +23,7 @@ public class PhysicsEngine {
         }
 
         // set position back to position prior to collision
-        Vector2D aPreviousPosition = a.getPositionBeforeLastUpdate();
-        a.setPosition(aPreviousPosition);
-    
+        a.setPosition(a.getPreviousX(), a.getPreviousY());
     }
 }
 
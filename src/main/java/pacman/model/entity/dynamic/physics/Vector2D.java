@@ -46,9 +46,13 @@ public class Vector2D {
     }
 
     public static double calculateEuclideanDistance(Vector2D vector1, Vector2D vector2){
-        double xDistance = vector2.getX() - vector1.getX();
-        double yDistance = vector2.getY() - vector1.getY();
-        return Math.sqrt(Math.pow(xDistance, 2) + Math.pow(yDistance, 2));
+        return calculateEuclideanDistance(vector1.getX(), vector1.getY(), vector2.getX(), vector2.getY());
+    }
+
+    public static double calculateEuclideanDistance(double x1, double y1, double x2, double y2){
+        double xDistance = x2 - x1;
+        double yDistance = y2 - y1;
+        return Math.sqrt(xDistance * xDistance + yDistance * yDistance);
     }
 
     @Override
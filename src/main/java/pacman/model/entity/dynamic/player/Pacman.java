@@ -1,8 +1,8 @@
 /*Pacman.java*/
 package pacman.model.entity.dynamic.player;
 
-import javafx.scene.image.Image;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
 import pacman.model.entity.dynamic.physics.*;
 import pacman.model.entity.staticentity.collectable.Collectable;
 import pacman.model.level.Level;
@@ -13,22 +13,22 @@ public class Pacman implements Controllable {
 
     public static final int PACMAN_IMAGE_SWAP_TICK_COUNT = 8;
     private final Layer layer = Layer.FOREGROUND;
-    private final Map<PacmanVisual, Image> images;
+    private final Map<PacmanVisual, Sprite> sprites;
     private final BoundingBox boundingBox;
     private final Vector2D startingPosition;
-    private KinematicState kinematicState;
-    private Image currentImage;
+    private final KinematicState kinematicState;
+    private Sprite currentSprite;
     private Set<Direction> possibleDirections;
     private boolean isClosedImage;
 
     public Pacman(
-            Image currentImage,
-            Map<PacmanVisual, Image> images,
+            Sprite currentSprite,
+            Map<PacmanVisual, Sprite> sprites,
             BoundingBox boundingBox,
             KinematicState kinematicState
     ){
-        this.currentImage = currentImage;
-        this.images = images;
+        this.currentSprite = currentSprite;
+        this.sprites = sprites;
         this.boundingBox = boundingBox;
         this.kinematicState = kinematicState;
         this.startingPosition = kinematicState.getPosition();
@@ -42,11 +42,16 @@ public class Pacman implements Controllable {
     }
 
     @Override
-    public Image getImage() {
+    public void setPosition(double x, double y) {
+        this.kinematicState.setPosition(x, y);
+    }
+
+    @Override
+    public Sprite getSprite() {
         if (isClosedImage){
-            return images.get(PacmanVisual.CLOSED);
+            return sprites.get(PacmanVisual.CLOSED);
         } else {
-            return currentImage;
+            return currentSprite;
         }
     }
 
@@ -60,9 +65,29 @@ public class Pacman implements Controllable {
         return this.kinematicState.getPreviousPosition();
     }
 
+    @Override
+    public double getPreviousX() {
+        return this.kinematicState.getPreviousX();
+    }
+
+    @Override
+    public double getPreviousY() {
+        return this.kinematicState.getPreviousY();
+    }
+
     public void update() {
+        updateDirection();
+        move();
+    }
+
+    @Override
+    public void updateDirection() {
+        // the player's direction is only changed by input
+    }
+
+    @Override
+    public void move() {
         kinematicState.update();
-        this.boundingBox.setTopLeft(this.kinematicState.getPosition());
     }
 
     @Override
@@ -73,25 +98,25 @@ public class Pacman implements Controllable {
     @Override
     public void up() {
         this.kinematicState.up();
-        this.currentImage = images.get(PacmanVisual.UP);
+        this.currentSprite = sprites.get(PacmanVisual.UP);
     }
 
     @Override
     public void down() {
         this.kinematicState.down();
-        this.currentImage = images.get(PacmanVisual.DOWN);
+        this.currentSprite = sprites.get(PacmanVisual.DOWN);
     }
 
     @Override
     public void left() {
         this.kinematicState.left();
-        this.currentImage = images.get(PacmanVisual.LEFT);
+        this.currentSprite = sprites.get(PacmanVisual.LEFT);
     }
 
     @Override
     public void right() {
         this.kinematicState.right();
-        this.currentImage = images.get(PacmanVisual.RIGHT);
+        this.currentSprite = sprites.get(PacmanVisual.RIGHT);
     }
 
     @Override
@@ -115,10 +140,7 @@ public class Pacman implements Controllable {
 
     @Override
     public void reset(){
-        this.kinematicState = new KinematicStateImpl.KinematicStateBuilder()
-                .setPosition(startingPosition)
-                .setSpeed(kinematicState.getSpeed())
-                .build();
+        this.kinematicState.reset(startingPosition, kinematicState.getSpeed(), Direction.LEFT);
 
         // go left by default
         left();
@@ -1,8 +1,8 @@
 /*EntityFactoryImpl.java*/
 package pacman.model.entity.factory;
 
-import javafx.scene.image.Image;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
 import pacman.model.entity.dynamic.ghost.Ghost;
 import pacman.model.entity.dynamic.ghost.GhostImpl;
 import pacman.model.entity.dynamic.player.Pacman;
@@ -11,35 +11,60 @@ import pacman.model.entity.staticentity.StaticEntity;
 import pacman.model.entity.staticentity.StaticEntityImpl;
 import pacman.model.entity.staticentity.collectable.Pellet;
 import pacman.model.maze.RenderableType;
-import pacman.model.entity.staticentity.collectable.Collectable;
-import pacman.model.level.Level;
 import pacman.model.entity.dynamic.player.PacmanVisual;
 import pacman.model.entity.dynamic.ghost.GhostMode;
-import java.util.*;
-import java.util.HashMap;
+
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 public class EntityFactoryImpl implements EntityFactory {
 
-    private static final String RESOURCE_PATH = "/maze/";
-    private final Random random = new Random();
+    private final SplittableRandom random;
+    private final KinematicStore kinematicStore;
+
+    public EntityFactoryImpl() {
+        this(null);
+    }
+
+    /**
+     * @param kinematicStore store to keep the kinematic state of dynamic entities in, or null to give each entity
+     *                       its own state object
+     */
+    public EntityFactoryImpl(KinematicStore kinematicStore) {
+        this(kinematicStore, new SplittableRandom());
+    }
+
+    /**
+     * @param kinematicStore store to keep the kinematic state of dynamic entities in, or null to give each entity
+     *                       its own state object
+     * @param seed seed the entities' random choices are derived from; entities created in the same order from
+     *             the same seed make the same choices
+     */
+    public EntityFactoryImpl(KinematicStore kinematicStore, long seed) {
+        this(kinematicStore, new SplittableRandom(seed));
+    }
+
+    private EntityFactoryImpl(KinematicStore kinematicStore, SplittableRandom random) {
+        this.kinematicStore = kinematicStore;
+        this.random = random;
+    }
 
     @Override
     public Renderable createEntity(char entityType, int x, int y) {
         switch (entityType) {
             case RenderableType.HORIZONTAL_WALL:
-                return createWall("horizontal.png", x, y);
+                return createWall(Sprite.HORIZONTAL_WALL, x, y);
             case RenderableType.VERTICAL_WALL:
-                return createWall("vertical.png", x, y);
+                return createWall(Sprite.VERTICAL_WALL, x, y);
             case RenderableType.UP_LEFT_WALL:
-                return createWall("upLeft.png", x, y);
+                return createWall(Sprite.UP_LEFT_WALL, x, y);
             case RenderableType.UP_RIGHT_WALL:
-                return createWall("upRight.png", x, y);
+                return createWall(Sprite.UP_RIGHT_WALL, x, y);
             case RenderableType.DOWN_LEFT_WALL:
-                return createWall("downLeft.png", x, y);
+                return createWall(Sprite.DOWN_LEFT_WALL, x, y);
             case RenderableType.DOWN_RIGHT_WALL:
-                return createWall("downRight.png", x, y);
+                return createWall(Sprite.DOWN_RIGHT_WALL, x, y);
             case RenderableType.PELLET:
                 return createPellet(x, y);
             case RenderableType.PACMAN:
@@ -51,52 +76,55 @@ public class EntityFactoryImpl implements EntityFactory {
         }
     }
 
-    private StaticEntity createWall(String imageName, int x, int y) {
-        Image image = new Image(RESOURCE_PATH + "walls/" + imageName);
-        BoundingBox boundingBox = new BoundingBoxImpl(new Vector2D(x, y), image.getHeight(), image.getWidth());
-        return new StaticEntityImpl(boundingBox, Renderable.Layer.FOREGROUND, image);
+    private StaticEntity createWall(Sprite sprite, int x, int y) {
+        BoundingBox boundingBox = new BoundingBoxImpl(new Vector2D(x, y), sprite.getHeight(), sprite.getWidth());
+        return new StaticEntityImpl(boundingBox, Renderable.Layer.FOREGROUND, sprite);
     }
 
     private Pellet createPellet(int x, int y) {
-        Image image = new Image(RESOURCE_PATH + "pellet.png");
-        BoundingBox boundingBox = new BoundingBoxImpl(new Vector2D(x, y), image.getHeight(), image.getWidth());
-        return new Pellet(boundingBox, Renderable.Layer.FOREGROUND, image, 10);
+        Sprite sprite = Sprite.PELLET;
+        BoundingBox boundingBox = new BoundingBoxImpl(new Vector2D(x, y), sprite.getHeight(), sprite.getWidth());
+        return new Pellet(boundingBox, Renderable.Layer.FOREGROUND, sprite, 10);
     }
 
     private Pacman createPacman(int x, int y) {
-        Map<PacmanVisual, Image> images = new HashMap<>();
-        images.put(PacmanVisual.UP, new Image(RESOURCE_PATH + "pacman/playerUp.png"));
-        images.put(PacmanVisual.DOWN, new Image(RESOURCE_PATH + "pacman/playerDown.png"));
-        images.put(PacmanVisual.LEFT, new Image(RESOURCE_PATH + "pacman/playerLeft.png"));
-        images.put(PacmanVisual.RIGHT, new Image(RESOURCE_PATH + "pacman/playerRight.png"));
-        images.put(PacmanVisual.CLOSED, new Image(RESOURCE_PATH + "pacman/playerClosed.png"));
-
-        Image currentImage = images.get(PacmanVisual.LEFT);
-        BoundingBox boundingBox = new BoundingBoxImpl(new Vector2D(x, y), currentImage.getHeight(), currentImage.getWidth());
+        Map<PacmanVisual, Sprite> sprites = new EnumMap<>(PacmanVisual.class);
+        sprites.put(PacmanVisual.UP, Sprite.PACMAN_UP);
+        sprites.put(PacmanVisual.DOWN, Sprite.PACMAN_DOWN);
+        sprites.put(PacmanVisual.LEFT, Sprite.PACMAN_LEFT);
+        sprites.put(PacmanVisual.RIGHT, Sprite.PACMAN_RIGHT);
+        sprites.put(PacmanVisual.CLOSED, Sprite.PACMAN_CLOSED);
+
+        Sprite currentSprite = sprites.get(PacmanVisual.LEFT);
         KinematicState kinematicState = new KinematicStateImpl.KinematicStateBuilder()
                 .setPosition(new Vector2D(x, y))
                 .setDirection(Direction.LEFT)
+                .setStore(kinematicStore)
                 .build();
+        BoundingBox boundingBox = new KinematicBoundingBox(kinematicState, currentSprite.getHeight(), currentSprite.getWidth());
 
-        return new Pacman(currentImage, images, boundingBox, kinematicState);
+        return new Pacman(currentSprite, sprites, boundingBox, kinematicState);
     }
 
     private Ghost createGhost(int x, int y) {
-        Image image = new Image(RESOURCE_PATH + "ghosts/ghost.png");
-        BoundingBox boundingBox = new BoundingBoxImpl(new Vector2D(x, y), image.getHeight(), image.getWidth());
+        // each ghost draws from its own stream, so its choices do not depend on how many draws other entities make
+        SplittableRandom ghostRandom = random.split();
+        Sprite sprite = Sprite.GHOST;
         KinematicState kinematicState = new KinematicStateImpl.KinematicStateBuilder()
                 .setPosition(new Vector2D(x, y))
-                .setDirection(getRandomDirection())
+                .setDirection(getRandomDirection(ghostRandom))
+                .setStore(kinematicStore)
                 .build();
-        Vector2D targetCorner = getRandomCorner();
-        return new GhostImpl(image, boundingBox, kinematicState, GhostMode.SCATTER, targetCorner, getRandomDirection());
+        BoundingBox boundingBox = new KinematicBoundingBox(kinematicState, sprite.getHeight(), sprite.getWidth());
+        Vector2D targetCorner = getRandomCorner(ghostRandom);
+        return new GhostImpl(sprite, boundingBox, kinematicState, GhostMode.SCATTER, targetCorner, getRandomDirection(ghostRandom));
     }
 
-    private Direction getRandomDirection() {
+    private Direction getRandomDirection(SplittableRandom random) {
         return Direction.values()[random.nextInt(Direction.values().length)];
     }
 
-    private Vector2D getRandomCorner() {
+    private Vector2D getRandomCorner(SplittableRandom random) {
         int corner = random.nextInt(4);
         switch (corner) {
             case 0: return new Vector2D(0, 0);
@@ -1,7 +1,7 @@
 /*Pellet.java*/
 package pacman.model.entity.staticentity.collectable;
 
-import javafx.scene.image.Image;
+import pacman.model.entity.Sprite;
 import pacman.model.entity.dynamic.physics.BoundingBox;
 import pacman.model.entity.staticentity.StaticEntityImpl;
 
@@ -13,8 +13,8 @@ public class Pellet extends StaticEntityImpl implements Collectable {
     private final int points;
     private boolean isCollectable;
 
-    public Pellet(BoundingBox boundingBox, Layer layer, Image image, int points) {
-        super(boundingBox, layer, image);
+    public Pellet(BoundingBox boundingBox, Layer layer, Sprite sprite, int points) {
+        super(boundingBox, layer, sprite);
         this.points = points;
         this.isCollectable = true;
     }
@@ -0,0 +1,55 @@
+/*LevelConfiguration.java*/
+package pacman.model.level;
+
+import pacman.model.entity.dynamic.ghost.GhostMode;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Validated, immutable settings of a single level, read once when the game configuration is loaded
+ */
+public class LevelConfiguration {
+
+    private final double playerSpeed;
+    private final Map<GhostMode, Double> ghostSpeeds;
+    private final int[] modeLengths;
+
+    /**
+     * @param playerSpeed the player's speed
+     * @param ghostSpeeds speed of the ghosts in each ghost mode, which must cover every mode
+     * @param modeLengths number of ticks each ghost mode lasts, which must cover every mode
+     */
+    public LevelConfiguration(double playerSpeed, Map<GhostMode, Double> ghostSpeeds,
+                              Map<GhostMode, Integer> modeLengths) {
+        this.playerSpeed = playerSpeed;
+        this.ghostSpeeds = Collections.unmodifiableMap(new EnumMap<>(ghostSpeeds));
+        this.modeLengths = new int[GhostMode.values().length];
+        for (GhostMode ghostMode : GhostMode.values()) {
+            if (!ghostSpeeds.containsKey(ghostMode) || !modeLengths.containsKey(ghostMode)) {
+                throw new IllegalArgumentException("Level configuration is missing ghost mode " + ghostMode);
+            }
+            this.modeLengths[ghostMode.ordinal()] = modeLengths.get(ghostMode);
+        }
+    }
+
+    public double getPlayerSpeed() {
+        return playerSpeed;
+    }
+
+    /**
+     * @return the speed of the ghosts in each ghost mode, which cannot be modified
+     */
+    public Map<GhostMode, Double> getGhostSpeeds() {
+        return ghostSpeeds;
+    }
+
+    /**
+     * @param ghostMode ghost mode
+     * @return the number of ticks the ghost mode lasts
+     */
+    public int getModeLength(GhostMode ghostMode) {
+        return modeLengths[ghostMode.ordinal()];
+    }
+}
@@ -2,52 +2,76 @@
 package pacman.model.level;
 
 import org.json.simple.JSONObject;
+import pacman.ConfigurationParseException;
 import pacman.model.entity.dynamic.ghost.GhostMode;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
 /**
- * Helper class to read JSONObject to retrieve level configuration details
+ * Helper class to read a level's JSONObject into a validated level configuration
  */
 public class LevelConfigurationReader {
 
     private final JSONObject levelConfiguration;
+    private final int levelNo;
 
-    public LevelConfigurationReader(JSONObject levelConfiguration) {
+    /**
+     * @param levelConfiguration JSON of the level
+     * @param levelNo number of the level, counting from 1, used in error messages
+     */
+    public LevelConfigurationReader(JSONObject levelConfiguration, int levelNo) {
         this.levelConfiguration = levelConfiguration;
+        this.levelNo = levelNo;
     }
 
     /**
-     * Retrieves the player's speed for the level
-     * @return the player's speed for the level
+     * Reads and validates the level configuration
+     * @return the level configuration
+     * @throws ConfigurationParseException if a setting is missing or invalid
      */
-    public double getPlayerSpeed(){
-        return ((Number) levelConfiguration.get("pacmanSpeed")).doubleValue();
+    public LevelConfiguration read() {
+        double playerSpeed = getSpeed(levelConfiguration, "pacmanSpeed");
+
+        Map<GhostMode, Double> ghostSpeeds = new EnumMap<>(GhostMode.class);
+        JSONObject ghostSpeed = getObject("ghostSpeed");
+        ghostSpeeds.put(GhostMode.CHASE, getSpeed(ghostSpeed, "chase"));
+        ghostSpeeds.put(GhostMode.SCATTER, getSpeed(ghostSpeed, "scatter"));
+
+        Map<GhostMode, Integer> modeLengths = new EnumMap<>(GhostMode.class);
+        JSONObject modeLengthsObject = getObject("modeLengths");
+        modeLengths.put(GhostMode.CHASE, getModeLength(modeLengthsObject, "chase"));
+        modeLengths.put(GhostMode.SCATTER, getModeLength(modeLengthsObject, "scatter"));
+
+        return new LevelConfiguration(playerSpeed, ghostSpeeds, modeLengths);
     }
 
-    /**
-     * Retrieves the lengths of the ghost modes in seconds
-     * @return the lengths of the ghost modes in seconds
-     */
-    public Map<GhostMode, Integer> getGhostModeLengths(){
-        Map<GhostMode, Integer> ghostModeLengths = new HashMap<>();
-        JSONObject modeLengthsObject = (JSONObject) levelConfiguration.get("modeLengths");
-        ghostModeLengths.put(GhostMode.CHASE, ((Number) modeLengthsObject.get("chase")).intValue());
-        ghostModeLengths.put(GhostMode.SCATTER, ((Number) modeLengthsObject.get("scatter")).intValue());
-        return ghostModeLengths;
+    private JSONObject getObject(String key) {
+        Object value = levelConfiguration.get(key);
+        if (!(value instanceof JSONObject)) {
+            throw error(key + " must be an object");
+        }
+        return (JSONObject) value;
     }
 
+    private double getSpeed(JSONObject object, String key) {
+        Object value = object.get(key);
+        if (!(value instanceof Number) || !(((Number) value).doubleValue() >= 0)
+                || Double.isInfinite(((Number) value).doubleValue())) {
+            throw error(key + " must be a non-negative number");
+        }
+        return ((Number) value).doubleValue();
+    }
 
-    /**
-     * Retrieves the speeds of the ghosts for each ghost mode
-     * @return the speeds of the ghosts for each ghost mode
-     */
-    public Map<GhostMode, Double> getGhostSpeeds(){
-        Map<GhostMode, Double> ghostSpeeds = new HashMap<>();
-        JSONObject ghostSpeed = (JSONObject) levelConfiguration.get("ghostSpeed");
-        ghostSpeeds.put(GhostMode.CHASE, ((Number) ghostSpeed.get("chase")).doubleValue());
-        ghostSpeeds.put(GhostMode.SCATTER, ((Number) ghostSpeed.get("scatter")).doubleValue());
-        return ghostSpeeds;
+    private int getModeLength(JSONObject object, String key) {
+        Object value = object.get(key);
+        if (!(value instanceof Number) || ((Number) value).intValue() <= 0) {
+            throw error("mode length " + key + " must be a positive number");
+        }
+        return ((Number) value).intValue();
+    }
+
+    private ConfigurationParseException error(String message) {
+        return new ConfigurationParseException("Level " + levelNo + ": " + message);
     }
 }
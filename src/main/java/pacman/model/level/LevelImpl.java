@@ -1,26 +1,25 @@
 /*LevelImpl.java*/
 package pacman.model.level;
 
-import org.json.simple.JSONObject;
 import pacman.ConfigurationParseException;
 import pacman.model.entity.Renderable;
 import pacman.model.entity.dynamic.DynamicEntity;
 import pacman.model.entity.dynamic.ghost.Ghost;
-import pacman.model.entity.dynamic.ghost.GhostImpl;
 import pacman.model.entity.dynamic.ghost.GhostMode;
-import pacman.model.entity.dynamic.physics.PhysicsEngine;
-import pacman.model.entity.dynamic.physics.Vector2D;
+import pacman.model.entity.dynamic.physics.BoundingBox;
+import pacman.model.entity.dynamic.physics.BroadPhaseGrid;
+import pacman.model.entity.dynamic.physics.KinematicStore;
 import pacman.model.entity.dynamic.player.Controllable;
 import pacman.model.entity.dynamic.player.Pacman;
-import pacman.model.entity.staticentity.StaticEntity;
 import pacman.model.entity.staticentity.collectable.Collectable;
+import pacman.model.maze.FlowField;
 import pacman.model.maze.Maze;
+import pacman.model.maze.MazeCreator;
+import pacman.model.maze.PelletStore;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Concrete implement of Pac-Man level
@@ -28,30 +27,40 @@ import java.util.stream.Collectors;
 public class LevelImpl implements Level {
     private int score = 0;
     private static final int START_LEVEL_TIME = 200;
+    private static final int BROAD_PHASE_CELL_TILES = 2;
     private final Maze maze;
     private List<Renderable> renderables;
     private Controllable player;
-    private List<Ghost> ghosts;
+    private Ghost[] ghosts;
+    private DynamicEntity[] dynamicEntities;
+    private boolean[] ghostPrecedesPlayer;
+    private BroadPhaseGrid ghostGrid;
+    private int[] collisionCandidates;
+    private KinematicStore kinematicStore;
     private int tickCount;
-    private Map<GhostMode, Integer> modeLengths;
+    private LevelConfiguration levelConfiguration;
     private int numLives;
-    private List<Renderable> collectables;
+    private PelletStore pelletStore;
+    private FlowField chaseField;
+    private int lastPlayerTileX;
+    private int lastPlayerTileY;
     private GhostMode currentGhostMode;
     private boolean gameOver = false;
 
 
-    public LevelImpl(JSONObject levelConfiguration,
+    public LevelImpl(LevelConfiguration levelConfiguration,
                      Maze maze) {
         this.renderables = new ArrayList<>();
         this.maze = maze;
         this.tickCount = 0;
-        this.modeLengths = new HashMap<>();
         this.currentGhostMode = GhostMode.SCATTER;
 
-        initLevel(new LevelConfigurationReader(levelConfiguration));
+        initLevel(levelConfiguration);
     }
 
-    private void initLevel(LevelConfigurationReader levelConfigurationReader) {
+    private void initLevel(LevelConfiguration levelConfiguration) {
+        this.levelConfiguration = levelConfiguration;
+
         // Fetch all renderables for the level
         this.renderables = maze.getRenderables();
 
@@ -60,33 +69,59 @@ public class LevelImpl implements Level {
             throw new ConfigurationParseException("Player entity is not controllable");
         }
         this.player = (Controllable) maze.getControllable();
-        this.player.setSpeed(levelConfigurationReader.getPlayerSpeed());
+        this.player.setSpeed(levelConfiguration.getPlayerSpeed());
         setNumLives(maze.getNumLives());
 
-        // Set up ghosts
-        this.ghosts = maze.getGhosts().stream()
-                .map(element -> (Ghost) element)
-                .collect(Collectors.toList());
-        Map<GhostMode, Double> ghostSpeeds = levelConfigurationReader.getGhostSpeeds();
+        // Partition renderables once, so that ticks iterate typed arrays
+        partitionRenderables();
+        this.pelletStore = maze.getPelletStore();
+        clearLastPlayerTile();
+        this.chaseField = new FlowField(maze);
+        Map<GhostMode, Double> ghostSpeeds = levelConfiguration.getGhostSpeeds();
 
         for (Ghost ghost : this.ghosts) {
             ghost.setSpeeds(ghostSpeeds);
             ghost.setGhostMode(this.currentGhostMode);
+            ghost.setDistanceOracle(maze.getDistanceOracle());
+            ghost.setChaseField(chaseField);
         }
-        this.modeLengths = levelConfigurationReader.getGhostModeLengths();
-
-        // Set up collectables
-        this.collectables = new ArrayList<>(maze.getPellets());
-
     }
 
-    private void updatePlayerPosition() {
-        Vector2D playerPos = player.getPosition();
-        for (Ghost ghost : ghosts) {
-            if (ghost instanceof GhostImpl) {
-                ((GhostImpl) ghost).setPlayerPosition(playerPos);
+    /**
+     * Sorts the level's dynamic renderables into the dynamic entity and ghost buckets.
+     * Dynamic entities keep the relative order they have in the renderables list.
+     * Collectables are tracked by tile in the maze's pellet store instead.
+     */
+    private void partitionRenderables() {
+        List<DynamicEntity> dynamicList = new ArrayList<>();
+        List<Ghost> ghostList = new ArrayList<>();
+        List<Boolean> precedesPlayer = new ArrayList<>();
+        boolean playerSeen = false;
+
+        for (Renderable renderable : renderables) {
+            if (renderable instanceof DynamicEntity) {
+                dynamicList.add((DynamicEntity) renderable);
+                if (renderable instanceof Ghost) {
+                    ghostList.add((Ghost) renderable);
+                    precedesPlayer.add(!playerSeen);
+                }
+                playerSeen |= isPlayer(renderable);
             }
         }
+
+        this.dynamicEntities = dynamicList.toArray(new DynamicEntity[0]);
+        this.ghosts = ghostList.toArray(new Ghost[0]);
+        this.ghostPrecedesPlayer = new boolean[ghosts.length];
+        for (int i = 0; i < ghosts.length; i++) {
+            ghostPrecedesPlayer[i] = precedesPlayer.get(i);
+        }
+
+        int tileSize = MazeCreator.RESIZING_FACTOR;
+        this.ghostGrid = new BroadPhaseGrid(maze.getWidth() * tileSize, maze.getHeight() * tileSize,
+                BROAD_PHASE_CELL_TILES * tileSize, ghosts.length);
+        this.collisionCandidates = new int[ghosts.length];
+
+        this.kinematicStore = maze.getKinematicStore();
     }
 
     @Override
@@ -99,20 +134,10 @@ public class LevelImpl implements Level {
         return this.renderables;
     }
 
-    private List<DynamicEntity> getDynamicEntities() {
-        return renderables.stream().filter(e -> e instanceof DynamicEntity).map(e -> (DynamicEntity) e).collect(
-                Collectors.toList());
-    }
-
-    private List<StaticEntity> getStaticEntities() {
-        return renderables.stream().filter(e -> e instanceof StaticEntity).map(e -> (StaticEntity) e).collect(
-                Collectors.toList());
-    }
-
     @Override
     public void tick() {
         
-        if (tickCount == modeLengths.get(currentGhostMode)) {
+        if (tickCount == levelConfiguration.getModeLength(currentGhostMode)) {
             this.currentGhostMode = GhostMode.getNextGhostMode(currentGhostMode);
             for (Ghost ghost : this.ghosts) {
                 ghost.setGhostMode(this.currentGhostMode);
@@ -124,63 +149,106 @@ public class LevelImpl implements Level {
             this.player.switchImage();
         }
         
-        List<DynamicEntity> dynamicEntities = getDynamicEntities();
-
-        Vector2D pacmanPosition = player.getPosition();
+        BoundingBox playerBox = player.getBoundingBox();
+        double playerCenterX = playerBox.getMiddleX();
+        double playerCenterY = playerBox.getMiddleY();
+        updateChaseField();
         
+        // every entity picks its direction before any of them moves; decisions only depend on the walls and on
+        // the player's position from before this tick
         for (DynamicEntity dynamicEntity : dynamicEntities) {
             maze.updatePossibleDirections(dynamicEntity);
             
             if (dynamicEntity instanceof Ghost) {
                 Ghost ghost = (Ghost) dynamicEntity;
-                ghost.setPlayerPosition(pacmanPosition);
+                ghost.setPlayerCenter(playerCenterX, playerCenterY);
             }
             
-            dynamicEntity.update();
-            
-            for (StaticEntity wall : getStaticEntities()) {
-                if (dynamicEntity.collidesWith(wall) && !wall.canPassThrough()) {
-                    PhysicsEngine.resolveCollision(dynamicEntity, wall);
-                }
-            }
+            dynamicEntity.updateDirection();
+        }
+
+        moveDynamicEntities();
+
+        for (DynamicEntity dynamicEntity : dynamicEntities) {
+            maze.resolveWallCollisions(dynamicEntity);
             
             if (dynamicEntity == player) {
-                checkCollectables((Pacman)dynamicEntity);
+                checkCollectables(player);
             }
         }
         
-        handleCollisions(dynamicEntities);
-        updatePlayerPosition();
+        handleCollisions();
         tickCount++;
     }
 
-    private void checkCollectables(Pacman pacman) {
-        List<Renderable> toRemove = new ArrayList<>();
-        for (Renderable collectable : collectables) {
-            if (pacman.collidesWith(collectable)) {
-                if (collectable instanceof Collectable) {
-                    collect((Collectable) collectable);
-                    toRemove.add(collectable);
-                }
-            }
+    /**
+     * Moves every dynamic entity one step, in a single pass over the kinematic store when the entities share one
+     */
+    private void moveDynamicEntities() {
+        if (kinematicStore != null) {
+            kinematicStore.update();
+            return;
+        }
+
+        for (DynamicEntity dynamicEntity : dynamicEntities) {
+            dynamicEntity.move();
         }
-        collectables.removeAll(toRemove);
-        renderables.removeAll(toRemove);
     }
 
-    private void handleCollisions(List<DynamicEntity> dynamicEntities) {
-        for (int i = 0; i < dynamicEntities.size(); ++i) {
-            DynamicEntity entityA = dynamicEntities.get(i);
-            
-            for (int j = i + 1; j < dynamicEntities.size(); ++j) {
-                DynamicEntity entityB = dynamicEntities.get(j);
-                
-                if (entityA.collidesWith(entityB)) {
-                    if ((isPlayer(entityA) && entityB instanceof Ghost) ||
-                        (isPlayer(entityB) && entityA instanceof Ghost)) {
-                        handlePacmanGhostCollision();
-                    }
-                }
+    /**
+     * Recomputes the flow field chasing ghosts follow, only when the player has moved to a different tile
+     */
+    private void updateChaseField() {
+        BoundingBox boundingBox = player.getBoundingBox();
+        chaseField.setSource(Maze.toTile(boundingBox.getMiddleX()), Maze.toTile(boundingBox.getMiddleY()));
+    }
+
+    /**
+     * Collects the pellet on the player's tile, only looking it up when the player's center changes tile
+     * @param player the player
+     */
+    private void checkCollectables(Controllable player) {
+        BoundingBox boundingBox = player.getBoundingBox();
+        int tileX = Maze.toTile(boundingBox.getMiddleX());
+        int tileY = Maze.toTile(boundingBox.getMiddleY());
+        if (tileX == lastPlayerTileX && tileY == lastPlayerTileY) {
+            return;
+        }
+
+        lastPlayerTileX = tileX;
+        lastPlayerTileY = tileY;
+        Collectable collectable = pelletStore.collectAt(tileX, tileY);
+        if (collectable != null) {
+            collect(collectable);
+        }
+    }
+
+    private void clearLastPlayerTile() {
+        lastPlayerTileX = Integer.MIN_VALUE;
+        lastPlayerTileY = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Handles collisions between the player and ghosts.
+     * Ghosts are bucketed into a uniform grid each tick, so only ghosts near the player reach the narrow phase.
+     */
+    private void handleCollisions() {
+        ghostGrid.clear();
+        for (int i = 0; i < ghosts.length; i++) {
+            ghostGrid.insert(i, ghosts[i].getBoundingBox());
+        }
+
+        int numCandidates = ghostGrid.query(player.getBoundingBox(), collisionCandidates);
+        for (int i = 0; i < numCandidates; i++) {
+            int ghostIndex = collisionCandidates[i];
+            Ghost ghost = ghosts[ghostIndex];
+
+            // collisions are directional, so test from whichever entity comes first in the renderables
+            boolean collided = ghostPrecedesPlayer[ghostIndex] ? ghost.collidesWith(player) : player.collidesWith(ghost);
+            if (collided) {
+                // entities are reset to their starting positions, so remaining candidates are stale
+                handlePacmanGhostCollision();
+                return;
             }
         }
     }
@@ -197,6 +265,7 @@ public class LevelImpl implements Level {
     
     private void resetEntities() {
         player.reset();
+        clearLastPlayerTile();
         for (Ghost ghost : ghosts) {
             ghost.reset();
         }
@@ -214,7 +283,7 @@ public class LevelImpl implements Level {
 
     @Override
     public boolean isCollectable(Renderable renderable) {
-        return maze.getPellets().contains(renderable) && ((Collectable) renderable).isCollectable();
+        return renderable instanceof Collectable && ((Collectable) renderable).isCollectable();
     }
 
     @Override
@@ -239,7 +308,7 @@ public class LevelImpl implements Level {
 
     @Override
     public boolean isLevelFinished() {
-        return collectables.isEmpty();
+        return pelletStore.getNumRemaining() == 0;
     }
 
     @Override
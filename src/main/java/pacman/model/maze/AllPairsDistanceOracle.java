@@ -0,0 +1,108 @@
+/*AllPairsDistanceOracle.java*/
+package pacman.model.maze;
+
+import java.util.Arrays;
+
+/**
+ * Exact distance oracle that precomputes the distance between every pair of open tiles.
+ * <p>
+ * Distances are stored in a compact short table. If the maze is a left-right mirror image of itself, only
+ * rows for sources in the left half are stored, and queries from the right half are mirrored.
+ */
+public class AllPairsDistanceOracle implements DistanceOracle {
+
+    private final int width;
+    private final int height;
+    private final boolean mirrored;
+    private final int[] targetIndex;
+    private final int[] sourceIndex;
+    private final int numTargets;
+    private final short[] distances;
+
+    public AllPairsDistanceOracle(Maze maze) {
+        this.width = maze.getWidth();
+        this.height = maze.getHeight();
+        this.mirrored = isMirrored(maze);
+        this.targetIndex = new int[width * height];
+        this.sourceIndex = new int[width * height];
+        Arrays.fill(targetIndex, -1);
+        Arrays.fill(sourceIndex, -1);
+
+        int targets = 0;
+        int sources = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (maze.isWall(x, y)) {
+                    continue;
+                }
+
+                targetIndex[y * width + x] = targets++;
+                if (!mirrored || !isRightHalf(x)) {
+                    sourceIndex[y * width + x] = sources++;
+                }
+            }
+        }
+        this.numTargets = targets;
+        this.distances = new short[sources * targets];
+
+        TileSearch search = new TileSearch(maze);
+        int[] tileDistances = new int[width * height];
+        for (int tile = 0; tile < width * height; tile++) {
+            int source = sourceIndex[tile];
+            if (source == -1) {
+                continue;
+            }
+
+            search.search(tile % width, tile / width, tileDistances);
+            for (int target = 0; target < tileDistances.length; target++) {
+                if (targetIndex[target] != -1) {
+                    distances[source * numTargets + targetIndex[target]] = (short) tileDistances[target];
+                }
+            }
+        }
+    }
+
+    private static boolean isMirrored(Maze maze) {
+        int width = maze.getWidth();
+        for (int y = 0; y < maze.getHeight(); y++) {
+            for (int x = 0; x < width / 2; x++) {
+                if (maze.isWall(x, y) != maze.isWall(width - 1 - x, y)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isRightHalf(int x) {
+        return x > width - 1 - x;
+    }
+
+    @Override
+    public int distance(int fromX, int fromY, int toX, int toY) {
+        if (!isInBounds(fromX, fromY) || !isInBounds(toX, toY)) {
+            return UNREACHABLE;
+        }
+
+        if (mirrored && isRightHalf(fromX)) {
+            fromX = width - 1 - fromX;
+            toX = width - 1 - toX;
+        }
+
+        int source = sourceIndex[fromY * width + fromX];
+        int target = targetIndex[toY * width + toX];
+        if (source == -1 || target == -1) {
+            return UNREACHABLE;
+        }
+        return distances[source * numTargets + target];
+    }
+
+    @Override
+    public boolean isExact() {
+        return true;
+    }
+
+    private boolean isInBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+}
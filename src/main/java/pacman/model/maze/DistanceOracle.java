@@ -0,0 +1,57 @@
+/*DistanceOracle.java*/
+package pacman.model.maze;
+
+/**
+ * Answers shortest path distance queries between tiles of a maze, moving between adjacent non-wall tiles.
+ */
+public interface DistanceOracle {
+
+    /**
+     * Returned when there is no path between two tiles, or either tile is a wall or outside the maze
+     */
+    int UNREACHABLE = -1;
+
+    /**
+     * Largest number of open tiles for which every pairwise distance is precomputed
+     */
+    int MAX_ALL_PAIRS_TILES = 2048;
+
+    /**
+     * Gets the distance between two tiles, in tiles.
+     * Exact oracles return the shortest path length; approximate oracles return a lower bound of it.
+     * @param fromX grid X position of the start tile
+     * @param fromY grid Y position of the start tile
+     * @param toX grid X position of the end tile
+     * @param toY grid Y position of the end tile
+     * @return the distance between the tiles, or {@link #UNREACHABLE}
+     */
+    int distance(int fromX, int fromY, int toX, int toY);
+
+    /**
+     * Returns true if distances returned by the oracle are exact shortest path lengths
+     * @return true, if distances are exact
+     */
+    boolean isExact();
+
+    /**
+     * Builds the oracle best suited to the size of the maze: an exact all-pairs table for normal sized mazes,
+     * and a landmark-based lower bound for large ones
+     * @param maze the maze to answer queries for
+     * @return the distance oracle
+     */
+    static DistanceOracle create(Maze maze) {
+        int openTiles = 0;
+        for (int y = 0; y < maze.getHeight(); y++) {
+            for (int x = 0; x < maze.getWidth(); x++) {
+                if (!maze.isWall(x, y)) {
+                    openTiles++;
+                }
+            }
+        }
+
+        if (openTiles <= MAX_ALL_PAIRS_TILES) {
+            return new AllPairsDistanceOracle(maze);
+        }
+        return new LandmarkDistanceOracle(maze, LandmarkDistanceOracle.DEFAULT_LANDMARKS);
+    }
+}
@@ -0,0 +1,55 @@
+/*FlowField.java*/
+package pacman.model.maze;
+
+/**
+ * Distances through the maze from every tile to a single source tile, shared by all entities heading there.
+ * <p>
+ * The field is only recomputed, with one breadth-first search, when its source moves to a different tile.
+ * Entities then find their next move by comparing the distances of their neighbouring tiles in O(1).
+ */
+public class FlowField {
+
+    private final TileSearch search;
+    private final int width;
+    private final int height;
+    private final int[] distances;
+    private int sourceX = Integer.MIN_VALUE;
+    private int sourceY = Integer.MIN_VALUE;
+
+    public FlowField(Maze maze) {
+        this.search = new TileSearch(maze);
+        this.width = maze.getWidth();
+        this.height = maze.getHeight();
+        this.distances = new int[width * height];
+    }
+
+    /**
+     * Moves the source of the field, recomputing the field if the source tile has changed
+     * @param x grid X position of the source tile
+     * @param y grid Y position of the source tile
+     * @return true, if the field was recomputed
+     */
+    public boolean setSource(int x, int y) {
+        if (x == sourceX && y == sourceY) {
+            return false;
+        }
+
+        sourceX = x;
+        sourceY = y;
+        search.search(x, y, distances);
+        return true;
+    }
+
+    /**
+     * Gets the distance from the given tile to the source tile, in tiles
+     * @param x grid X position of the tile
+     * @param y grid Y position of the tile
+     * @return the distance to the source, or {@link DistanceOracle#UNREACHABLE}
+     */
+    public int distance(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return DistanceOracle.UNREACHABLE;
+        }
+        return distances[y * width + x];
+    }
+}
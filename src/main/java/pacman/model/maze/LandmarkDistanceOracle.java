@@ -0,0 +1,118 @@
+/*LandmarkDistanceOracle.java*/
+package pacman.model.maze;
+
+import java.util.Arrays;
+
+/**
+ * Approximate distance oracle for large mazes, using landmarks (the ALT lower bound).
+ * <p>
+ * The exact distance from a handful of landmark tiles to every tile is precomputed. By the triangle inequality,
+ * |d(L, a) - d(L, b)| is a lower bound of d(a, b) for every landmark L, and the largest such bound is returned.
+ * Landmarks are picked by farthest-point selection, so they spread out to the edges of the maze.
+ */
+public class LandmarkDistanceOracle implements DistanceOracle {
+
+    public static final int DEFAULT_LANDMARKS = 8;
+    private final int width;
+    private final int height;
+    private final int[] components;
+    private final short[][] landmarkDistances;
+
+    public LandmarkDistanceOracle(Maze maze, int numLandmarks) {
+        this.width = maze.getWidth();
+        this.height = maze.getHeight();
+        this.components = labelComponents(maze);
+
+        TileSearch search = new TileSearch(maze);
+        int[] tileDistances = new int[width * height];
+
+        // distance from each tile to its closest landmark so far; tiles no landmark reaches count as furthest
+        int[] closestLandmark = new int[width * height];
+        Arrays.fill(closestLandmark, Integer.MAX_VALUE);
+
+        short[][] landmarks = new short[numLandmarks][];
+        int count = 0;
+        int next = firstOpenTile(maze);
+        while (next != -1 && count < numLandmarks) {
+            search.search(next % width, next / width, tileDistances);
+
+            short[] row = new short[width * height];
+            for (int tile = 0; tile < row.length; tile++) {
+                row[tile] = (short) Math.min(tileDistances[tile], Short.MAX_VALUE);
+                if (tileDistances[tile] != -1) {
+                    closestLandmark[tile] = Math.min(closestLandmark[tile], tileDistances[tile]);
+                }
+            }
+            landmarks[count++] = row;
+
+            next = furthestTile(closestLandmark);
+        }
+        this.landmarkDistances = Arrays.copyOf(landmarks, count);
+    }
+
+    private int[] labelComponents(Maze maze) {
+        TileSearch search = new TileSearch(maze);
+        int[] labels = new int[width * height];
+        Arrays.fill(labels, -1);
+
+        int numComponents = 0;
+        for (int tile = 0; tile < labels.length; tile++) {
+            if (labels[tile] == -1 && !maze.isWall(tile % width, tile / width)) {
+                search.flood(tile % width, tile / width, labels, numComponents++);
+            }
+        }
+        return labels;
+    }
+
+    private int firstOpenTile(Maze maze) {
+        for (int tile = 0; tile < components.length; tile++) {
+            if (components[tile] != -1) {
+                return tile;
+            }
+        }
+        return -1;
+    }
+
+    private int furthestTile(int[] closestLandmark) {
+        int furthest = -1;
+        for (int tile = 0; tile < closestLandmark.length; tile++) {
+            if (components[tile] == -1 || closestLandmark[tile] == 0) {
+                continue;
+            }
+            if (furthest == -1 || closestLandmark[tile] > closestLandmark[furthest]) {
+                furthest = tile;
+            }
+        }
+        return furthest;
+    }
+
+    @Override
+    public int distance(int fromX, int fromY, int toX, int toY) {
+        if (!isInBounds(fromX, fromY) || !isInBounds(toX, toY)) {
+            return UNREACHABLE;
+        }
+
+        int from = fromY * width + fromX;
+        int to = toY * width + toX;
+        if (components[from] == -1 || components[from] != components[to]) {
+            return UNREACHABLE;
+        }
+
+        int bound = 0;
+        for (short[] distances : landmarkDistances) {
+            if (distances[from] != -1) {
+                bound = Math.max(bound, Math.abs(distances[from] - distances[to]));
+            }
+        }
+        return bound;
+    }
+
+    @Override
+    public boolean isExact() {
+        return false;
+    }
+
+    private boolean isInBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+}
@@ -0,0 +1,128 @@
+/*MapLoader.java*/
+package pacman.model.maze;
+
+import pacman.ConfigurationParseException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Reads a text map file into a tile map.
+ * <p>
+ * The file is memory-mapped and read as bytes. Line breaks are found in a single pass, after which rows are
+ * checked and copied into the grid independently, in parallel for large maps. Any character outside printable
+ * ASCII is reported with its row and column; other characters without a meaning in {@link RenderableType} are
+ * left as empty tiles.
+ */
+public class MapLoader {
+
+    private static final int PARALLEL_THRESHOLD = 512;
+    private static final int NO_ERROR = -1;
+    private final String fileName;
+
+    /**
+     * @param fileName path of the map file
+     */
+    public MapLoader(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * Reads the map file
+     * @return the tiles of the map
+     * @throws ConfigurationParseException if the file cannot be read, is empty or holds an invalid character
+     */
+    public TileMap load() {
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                throw new ConfigurationParseException("Map file " + fileName + " is empty");
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new ConfigurationParseException("Map file " + fileName + " is too large");
+            }
+
+            return parse(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        } catch (NoSuchFileException e) {
+            throw new ConfigurationParseException("Map file " + fileName + " not found", e);
+        } catch (IOException e) {
+            throw new ConfigurationParseException("Error reading map file " + fileName + ": " + e.getMessage(), e);
+        }
+    }
+
+    private TileMap parse(ByteBuffer buffer) {
+        int size = buffer.limit();
+
+        // rows end at \n, \r\n or \r, and a line break at the very end does not start another row
+        int[] rowStarts = new int[64];
+        int[] rowEnds = new int[64];
+        int numRows = 0;
+        int width = 0;
+        int start = 0;
+        while (start < size) {
+            int end = start;
+            while (end < size && buffer.get(end) != '\n' && buffer.get(end) != '\r') {
+                end++;
+            }
+
+            if (numRows == rowStarts.length) {
+                rowStarts = Arrays.copyOf(rowStarts, numRows * 2);
+                rowEnds = Arrays.copyOf(rowEnds, numRows * 2);
+            }
+            rowStarts[numRows] = start;
+            rowEnds[numRows] = end;
+            numRows++;
+            width = Math.max(width, end - start);
+
+            if (end + 1 < size && buffer.get(end) == '\r' && buffer.get(end + 1) == '\n') {
+                end++;
+            }
+            start = end + 1;
+        }
+
+        byte[] tiles = new byte[width * numRows];
+        Arrays.fill(tiles, (byte) RenderableType.EMPTY);
+        int[] errorColumns = new int[numRows];
+
+        // absolute reads leave the buffer untouched, so rows can be read from any thread
+        int rowWidth = width;
+        int[] starts = rowStarts;
+        int[] ends = rowEnds;
+        IntStream rows = IntStream.range(0, numRows);
+        if (numRows >= PARALLEL_THRESHOLD) {
+            rows = rows.parallel();
+        }
+        rows.forEach(row -> errorColumns[row] = copyRow(buffer, starts[row], ends[row], tiles, row * rowWidth));
+
+        for (int row = 0; row < numRows; row++) {
+            if (errorColumns[row] != NO_ERROR) {
+                int column = errorColumns[row];
+                throw new ConfigurationParseException(String.format("Invalid character 0x%02X at row %d, column %d of %s",
+                        buffer.get(rowStarts[row] + column) & 0xFF, row + 1, column + 1, fileName));
+            }
+        }
+
+        return new TileMap(width, numRows, tiles);
+    }
+
+    /**
+     * Copies one row of the file into the grid
+     * @return the column of the first invalid character in the row, or NO_ERROR
+     */
+    private static int copyRow(ByteBuffer buffer, int start, int end, byte[] tiles, int offset) {
+        for (int i = start; i < end; i++) {
+            byte tile = buffer.get(i);
+            if (tile < 0x20 || tile > 0x7E) {
+                return i - start;
+            }
+            tiles[offset + i - start] = tile;
+        }
+        return NO_ERROR;
+    }
+}
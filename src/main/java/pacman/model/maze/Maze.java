@@ -3,7 +3,12 @@ package pacman.model.maze;
 
 import pacman.model.entity.dynamic.DynamicEntity;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.dynamic.physics.BoundingBox;
 import pacman.model.entity.dynamic.physics.Direction;
+import pacman.model.entity.dynamic.physics.KinematicStore;
+import pacman.model.entity.dynamic.physics.PhysicsEngine;
+import pacman.model.entity.staticentity.StaticEntity;
+import pacman.model.entity.staticentity.collectable.Collectable;
 
 import java.util.*;
 
@@ -13,19 +18,40 @@ import java.util.*;
  */
 public class Maze {
 
-    private static final int MAX_CENTER_DISTANCE = 4;
+    /**
+     * Distance in pixels from the center of a tile within which an entity can turn
+     */
+    public static final int MAX_CENTER_DISTANCE = 4;
     private final List<Renderable> renderables;
     private Renderable pacman;
     private final List<Renderable> ghosts;
     private final List<Renderable> pellets;
-    private final Map<String, Boolean> isWall;
+    private final BitSet walls;
+    private final int width;
+    private final int height;
+    private final StaticEntity[] wallGrid;
+    private final byte[] directionMasks;
+    private final PelletStore pelletStore;
+    private DistanceOracle distanceOracle;
+    private KinematicStore kinematicStore;
     private int numLives;
 
-    public Maze() {
+    /**
+     * Creates an empty maze of the given grid dimensions
+     * @param width number of tiles in each row
+     * @param height number of rows
+     */
+    public Maze(int width, int height) {
         this.renderables = new ArrayList<>();
         this.ghosts = new ArrayList<>();
         this.pellets = new ArrayList<>();
-        this.isWall = new HashMap<>();
+        this.walls = new BitSet(width * height);
+        this.width = width;
+        this.height = height;
+        this.wallGrid = new StaticEntity[width * height];
+        this.directionMasks = new byte[width * height];
+        Arrays.fill(this.directionMasks, (byte) Direction.ALL_MASK);
+        this.pelletStore = new PelletStore(width, height);
     }
 
     /**
@@ -43,16 +69,83 @@ public class Maze {
                 this.ghosts.add(renderable);
             } else if (renderableType == RenderableType.PELLET){
                 this.pellets.add(renderable);
+                if (renderable instanceof Collectable) {
+                    this.pelletStore.add((Collectable) renderable, x, y);
+                }
             } else {
-                this.isWall.put(formatCoordinates(x, y), true);
+                if (isInBounds(x, y)) {
+                    this.walls.set(y * width + x);
+                    if (renderable instanceof StaticEntity) {
+                        this.wallGrid[y * width + x] = (StaticEntity) renderable;
+                    }
+                }
+
+                // walls never move, so the legal directions of the neighbouring tiles are settled here
+                blockDirection(x, y + 1, Direction.UP);
+                blockDirection(x, y - 1, Direction.DOWN);
+                blockDirection(x + 1, y, Direction.LEFT);
+                blockDirection(x - 1, y, Direction.RIGHT);
             }
 
             this.renderables.add(renderable);
         }
     }
 
-    private static String formatCoordinates(int x, int y){
-        return String.format("(%d, %d)", x, y);
+    private void blockDirection(int x, int y, Direction direction) {
+        if (isInBounds(x, y)) {
+            directionMasks[y * width + x] &= (byte) ~direction.mask();
+        }
+    }
+
+    private boolean isInBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Converts a pixel coordinate to the index of the grid tile containing it
+     * @param coordinate x or y pixel coordinate
+     * @return grid tile index
+     */
+    public static int toTile(double coordinate) {
+        return (int) Math.floor(coordinate / MazeCreator.RESIZING_FACTOR);
+    }
+
+    /**
+     * Returns true if the given grid tile contains a wall
+     * @param x grid X position
+     * @param y grid Y position
+     * @return true, if the tile has a wall; tiles outside the maze are never walls
+     */
+    public boolean isWall(int x, int y) {
+        return isInBounds(x, y) && walls.get(y * width + x);
+    }
+
+    /**
+     * Returns the directions that can be moved in from the given grid tile without running into a wall
+     * @param x grid X position
+     * @param y grid Y position
+     * @return direction mask of the tile (see {@link Direction#mask()}); tiles outside the maze allow every direction
+     */
+    public int getDirectionMask(int x, int y) {
+        return isInBounds(x, y) ? directionMasks[y * width + x] : Direction.ALL_MASK;
+    }
+
+    /**
+     * Returns the wall occupying the given grid tile
+     * @param x grid X position
+     * @param y grid Y position
+     * @return the wall at the tile, or null if the tile has no wall or is outside the maze
+     */
+    public StaticEntity getWall(int x, int y) {
+        return isInBounds(x, y) ? wallGrid[y * width + x] : null;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
     }
 
     public List<Renderable> getRenderables() {
@@ -71,6 +164,30 @@ public class Maze {
         return pellets;
     }
 
+    public PelletStore getPelletStore() {
+        return pelletStore;
+    }
+
+    public DistanceOracle getDistanceOracle() {
+        return distanceOracle;
+    }
+
+    public void setDistanceOracle(DistanceOracle distanceOracle) {
+        this.distanceOracle = distanceOracle;
+    }
+
+    /**
+     * @return the store holding the kinematic state of the maze's dynamic entities, or null if each entity has
+     * its own state object
+     */
+    public KinematicStore getKinematicStore() {
+        return kinematicStore;
+    }
+
+    public void setKinematicStore(KinematicStore kinematicStore) {
+        this.kinematicStore = kinematicStore;
+    }
+
     private int getCenterOfTile(int index){
         return index * MazeCreator.RESIZING_FACTOR + MazeCreator.RESIZING_FACTOR/2;
     }
@@ -79,43 +196,47 @@ public class Maze {
      * Updates the possible directions of the dynamic entity based on the maze configuration
      */
     public void updatePossibleDirections(DynamicEntity dynamicEntity){
-        int xTile = (int) Math.floor(dynamicEntity.getCenter().getX()/MazeCreator.RESIZING_FACTOR);
-        int yTile = (int) Math.floor(dynamicEntity.getCenter().getY()/MazeCreator.RESIZING_FACTOR);
+        BoundingBox boundingBox = dynamicEntity.getBoundingBox();
+        double centerX = boundingBox.getMiddleX();
+        double centerY = boundingBox.getMiddleY();
+        int xTile = toTile(centerX);
+        int yTile = toTile(centerY);
 
-        Set<Direction> possibleDirections = new HashSet<>();
+        int possibleDirections;
 
         // calculates whether entity is in a position where it is able to turn
-        if (Math.abs(getCenterOfTile(xTile) - dynamicEntity.getCenter().getX()) < MAX_CENTER_DISTANCE &&
-                Math.abs(getCenterOfTile(yTile) - dynamicEntity.getCenter().getY()) < MAX_CENTER_DISTANCE){
-
-            String aboveCoordinates = formatCoordinates(xTile, yTile - 1);
-            if (isWall.get(aboveCoordinates) == null){
-                possibleDirections.add(Direction.UP);
-            }
+        if (Math.abs(getCenterOfTile(xTile) - centerX) < MAX_CENTER_DISTANCE &&
+                Math.abs(getCenterOfTile(yTile) - centerY) < MAX_CENTER_DISTANCE){
+            possibleDirections = getDirectionMask(xTile, yTile);
+        } else {
+            Direction direction = dynamicEntity.getDirection();
+            possibleDirections = direction.mask() | direction.opposite().mask();
+        }
 
-            String belowCoordinates = formatCoordinates(xTile, yTile + 1);
-            if (isWall.get(belowCoordinates) == null){
-                possibleDirections.add(Direction.DOWN);
-            }
+        dynamicEntity.setPossibleDirections(Direction.setOf(possibleDirections));
+    }
 
-            String leftCoordinates = formatCoordinates(xTile - 1, yTile);
-            if (isWall.get(leftCoordinates) == null){
-                possibleDirections.add(Direction.LEFT);
-            }
+    /**
+     * Resolves collisions of the dynamic entity with walls, only checking the tiles covered by its bounding box
+     * @param dynamicEntity entity that has just moved
+     */
+    public void resolveWallCollisions(DynamicEntity dynamicEntity) {
+        BoundingBox boundingBox = dynamicEntity.getBoundingBox();
+        int minX = toTile(boundingBox.getLeftX());
+        int maxX = toTile(boundingBox.getRightX());
+        int minY = toTile(boundingBox.getTopY());
+        int maxY = toTile(boundingBox.getBottomY());
 
-            String rightCoordinates = formatCoordinates(xTile + 1, yTile);
-            if (isWall.get(rightCoordinates) == null){
-                possibleDirections.add(Direction.RIGHT);
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                StaticEntity wall = getWall(x, y);
+                if (wall != null && !wall.canPassThrough() && dynamicEntity.collidesWith(wall)) {
+                    PhysicsEngine.resolveCollision(dynamicEntity, wall);
+                }
             }
-        } else {
-            possibleDirections.add(dynamicEntity.getDirection());
-            possibleDirections.add(dynamicEntity.getDirection().opposite());
         }
-
-        dynamicEntity.setPossibleDirections(possibleDirections);
     }
 
-
     /**
      * Returns true if possible directions indicates entity is at an intersection (i.e. can turn in at least 2 adjacent directions)
      * @param possibleDirections possible directions of entity
@@ -131,6 +252,16 @@ public class Maze {
         return false;
     }
 
+    /**
+     * Returns true if the direction mask indicates entity is at an intersection (i.e. can turn in at least 2 adjacent directions)
+     * @param possibleDirections direction mask of the possible directions of entity
+     * @return true, if entity is at intersection
+     */
+    public static boolean isAtIntersection(int possibleDirections) {
+        int horizontal = Direction.LEFT.mask() | Direction.RIGHT.mask();
+        return (possibleDirections & horizontal) != 0 && (possibleDirections & ~horizontal) != 0;
+    }
+
     public void setNumLives(int numLives){
        this.numLives = numLives;
     }
@@ -140,11 +271,12 @@ public class Maze {
     }
 
     /**
-     * Resets all renderables to starting state
+     * Resets all renderables to starting state, including restoring collected pellets
      */
     public void reset(){
         for (Renderable renderable : renderables){
             renderable.reset();
         }
+        pelletStore.reset();
     }
 }
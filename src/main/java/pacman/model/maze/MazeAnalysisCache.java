@@ -0,0 +1,89 @@
+/*MazeAnalysisCache.java*/
+package pacman.model.maze;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shares the distance oracle between mazes with the same walls.
+ * <p>
+ * The oracle is derived from the walls alone and never changes once built, so every game played on the same
+ * map, such as each session of a server, reads one shared copy instead of building its own. Only the most
+ * recently used layouts are kept; a maze holds on to its own oracle, so evicting one never affects a running game.
+ */
+final class MazeAnalysisCache {
+
+    private static final int MAX_LAYOUTS = 8;
+
+    private static final Map<Layout, DistanceOracle> ORACLES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Layout, DistanceOracle> eldest) {
+            return size() > MAX_LAYOUTS;
+        }
+    };
+
+    private MazeAnalysisCache() {
+    }
+
+    /**
+     * Gives the maze the distance oracle of its walls, building it the first time the walls are seen
+     * @param maze maze with all of its walls added
+     */
+    static void analyse(Maze maze) {
+        Layout layout = new Layout(maze);
+        DistanceOracle distanceOracle;
+        synchronized (ORACLES) {
+            distanceOracle = ORACLES.get(layout);
+        }
+
+        if (distanceOracle == null) {
+            // built outside the lock so that games on other maps are not held up
+            DistanceOracle built = DistanceOracle.create(maze);
+            synchronized (ORACLES) {
+                distanceOracle = ORACLES.putIfAbsent(layout, built);
+            }
+            if (distanceOracle == null) {
+                distanceOracle = built;
+            }
+        }
+
+        maze.setDistanceOracle(distanceOracle);
+    }
+
+    /**
+     * The dimensions and wall tiles of a maze
+     */
+    private static final class Layout {
+        private final int width;
+        private final int height;
+        private final BitSet walls;
+
+        private Layout(Maze maze) {
+            this.width = maze.getWidth();
+            this.height = maze.getHeight();
+            this.walls = new BitSet(width * height);
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    if (maze.isWall(x, y)) {
+                        walls.set(y * width + x);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Layout)) {
+                return false;
+            }
+            Layout layout = (Layout) other;
+            return width == layout.width && height == layout.height && walls.equals(layout.walls);
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * width + height) * 31 + walls.hashCode();
+        }
+    }
+}
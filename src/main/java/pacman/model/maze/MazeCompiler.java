@@ -0,0 +1,28 @@
+/*MazeCompiler.java*/
+package pacman.model.maze;
+
+import java.io.IOException;
+
+/**
+ * Converts a text map file into a binary maze file.
+ * <p>
+ * Usage: {@code MazeCompiler <map.txt> [output.maze]}. Without an output path, the maze is written next to
+ * the map with the {@value MazeFile#EXTENSION} extension.
+ */
+public class MazeCompiler {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: MazeCompiler <map file> [maze file]");
+            System.exit(1);
+        }
+
+        String mapFile = args[0];
+        String mazeFile = args.length == 2 ? args[1] : mapFile.replaceFirst("\\.[^./\\\\]*$", "") + MazeFile.EXTENSION;
+
+        TileMap tileMap = new MapLoader(mapFile).load();
+        MazeFile.write(tileMap, mazeFile);
+        System.out.println("Wrote " + tileMap.getWidth() + "x" + tileMap.getHeight() + " maze with "
+                + tileMap.getEntityTiles().length + " entities to " + mazeFile);
+    }
+}
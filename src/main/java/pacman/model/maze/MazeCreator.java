@@ -1,58 +1,81 @@
 /*MazeCreator.java*/
 package pacman.model.maze;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.Scanner;
+import pacman.ConfigurationParseException;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.dynamic.physics.KinematicStore;
 import pacman.model.entity.factory.EntityFactory;
 import pacman.model.entity.factory.EntityFactoryImpl;
 
-import static java.lang.System.exit;
-
 public class MazeCreator {
 
     private final String fileName;
     public static final int RESIZING_FACTOR = 16;
     private final EntityFactory entityFactory;
+    private final KinematicStore kinematicStore;
 
     public MazeCreator(String fileName) {
-        this.fileName = fileName;
-        this.entityFactory = new EntityFactoryImpl();
+        this(fileName, null);
     }
 
-    public Maze createMaze() {
-        File f = new File(this.fileName);
-        Maze maze = new Maze();
+    /**
+     * @param fileName path of the map file
+     * @param kinematicStore store to keep the kinematic state of dynamic entities in, or null to give each entity
+     *                       its own state object
+     */
+    public MazeCreator(String fileName, KinematicStore kinematicStore) {
+        this(fileName, kinematicStore, new EntityFactoryImpl(kinematicStore));
+    }
 
-        try {
-            Scanner scanner = new Scanner(f);
+    /**
+     * @param fileName path of the map file
+     * @param kinematicStore store to keep the kinematic state of dynamic entities in, or null to give each entity
+     *                       its own state object
+     * @param seed seed the entities' random choices are derived from
+     */
+    public MazeCreator(String fileName, KinematicStore kinematicStore, long seed) {
+        this(fileName, kinematicStore, new EntityFactoryImpl(kinematicStore, seed));
+    }
 
-            int y = 0;
+    private MazeCreator(String fileName, KinematicStore kinematicStore, EntityFactory entityFactory) {
+        this.fileName = fileName;
+        this.entityFactory = entityFactory;
+        this.kinematicStore = kinematicStore;
+    }
 
-            while (scanner.hasNextLine()) {
-                String line = scanner.nextLine();
-                char[] row = line.toCharArray();
+    /**
+     * Reads the map file, either a text map or a binary maze file, and creates the maze and every entity in it
+     * @return the new maze
+     * @throws ConfigurationParseException if the map file cannot be read or holds an invalid tile
+     */
+    public Maze createMaze() {
+        TileMap tiles = this.fileName.endsWith(MazeFile.EXTENSION)
+                ? MazeFile.read(this.fileName)
+                : new MapLoader(this.fileName).load();
 
-                for (int x = 0; x < row.length; x++) {
-                    Renderable entity = entityFactory.createEntity(row[x], x * RESIZING_FACTOR, y * RESIZING_FACTOR);
-                    if (entity != null) {
-                        maze.addRenderable(entity, row[x], x, y);
-                    }
-                }
+        // the grid is sized up front so walls can be indexed by tile
+        Maze maze = new Maze(tiles.getWidth(), tiles.getHeight());
 
-                y += 1;
+        // entities are created in reading order, so seeded random choices are handed out the same way every time
+        for (int index : tiles.getEntityTiles()) {
+            int x = index % tiles.getWidth();
+            int y = index / tiles.getWidth();
+            char tile = tiles.getTile(index);
+            Renderable entity;
+            try {
+                entity = entityFactory.createEntity(tile, x * RESIZING_FACTOR, y * RESIZING_FACTOR);
+            } catch (RuntimeException e) {
+                throw new ConfigurationParseException(String.format("Unable to create '%c' at row %d, column %d of %s: %s",
+                        tile, y + 1, x + 1, this.fileName, e.getMessage()), e);
             }
 
-            scanner.close();
-        } catch (FileNotFoundException e) {
-            System.out.println("No maze file was found.");
-            exit(0);
-        } catch (Exception e) {
-            System.out.println("Error: " + e.getMessage());
-            exit(0);
+            if (entity != null) {
+                maze.addRenderable(entity, tile, x, y);
+            }
         }
 
+        maze.setKinematicStore(kinematicStore);
+        MazeAnalysisCache.analyse(maze);
         return maze;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,139 @@
+/*MazeFile.java*/
+package pacman.model.maze;
+
+import pacman.ConfigurationParseException;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes tile maps in a compact binary format, so a maze can be loaded without parsing text.
+ * <p>
+ * All values are big-endian. The file holds, in order: the magic number and format version; the width and
+ * height of the grid; the count and row-major indices of the entity tiles, so loading does not scan the grid
+ * for them; the grid itself, one byte per tile; and finally a CRC32 of everything before it.
+ */
+public class MazeFile {
+
+    public static final String EXTENSION = ".maze";
+    private static final int MAGIC = 0x504D415A;
+    private static final int VERSION = 2;
+    private static final int HEADER_INTS = 5;
+    private static final int CHECKSUM_BYTES = Integer.BYTES;
+
+    private MazeFile() {
+    }
+
+    /**
+     * Writes the tile map to a binary maze file
+     * @param tileMap map to be written
+     * @param fileName path of the maze file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(TileMap tileMap, String fileName) throws IOException {
+        int[] entityTiles = tileMap.getEntityTiles();
+        int numTiles = tileMap.getWidth() * tileMap.getHeight();
+        long size = (long) (HEADER_INTS + entityTiles.length) * Integer.BYTES + numTiles + CHECKSUM_BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Maze is too large to be written");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        buffer.putInt(MAGIC).putInt(VERSION);
+        buffer.putInt(tileMap.getWidth()).putInt(tileMap.getHeight());
+        putTiles(buffer, entityTiles);
+        for (int i = 0; i < numTiles; i++) {
+            buffer.put((byte) tileMap.getTile(i));
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) checksum.getValue());
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static void putTiles(ByteBuffer buffer, int[] tiles) {
+        buffer.putInt(tiles.length);
+        buffer.asIntBuffer().put(tiles);
+        buffer.position(buffer.position() + tiles.length * Integer.BYTES);
+    }
+
+    /**
+     * Reads a binary maze file, checking it against its checksum
+     * @param fileName path of the maze file
+     * @return the tile map
+     * @throws ConfigurationParseException if the file cannot be read, or is not a valid maze file
+     */
+    public static TileMap read(String fileName) {
+        try (FileChannel channel = FileChannel.open(Path.of(fileName), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < CHECKSUM_BYTES || size > Integer.MAX_VALUE) {
+                throw new ConfigurationParseException("Maze file " + fileName + " has an invalid size");
+            }
+
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), fileName);
+        } catch (NoSuchFileException e) {
+            throw new ConfigurationParseException("Maze file " + fileName + " not found", e);
+        } catch (IOException e) {
+            throw new ConfigurationParseException("Error reading maze file " + fileName + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static TileMap read(ByteBuffer buffer, String fileName) {
+        int contentSize = buffer.limit() - CHECKSUM_BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.slice(0, contentSize));
+        if ((int) checksum.getValue() != buffer.getInt(contentSize)) {
+            throw new ConfigurationParseException("Maze file " + fileName + " is corrupt: checksum does not match");
+        }
+
+        try {
+            buffer.limit(contentSize);
+            if (buffer.getInt() != MAGIC) {
+                throw new ConfigurationParseException(fileName + " is not a maze file");
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new ConfigurationParseException("Maze file " + fileName + " has unsupported version " + version);
+            }
+
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            int[] entityTiles = getTiles(buffer);
+            if (width < 0 || height < 0 || (long) width * height != buffer.remaining()) {
+                throw new ConfigurationParseException("Maze file " + fileName + " has a malformed tile grid");
+            }
+
+            byte[] tiles = new byte[width * height];
+            buffer.get(tiles);
+            return new TileMap(width, height, tiles, entityTiles);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new ConfigurationParseException("Maze file " + fileName + " is malformed", e);
+        }
+    }
+
+    private static int[] getTiles(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / Integer.BYTES) {
+            throw new BufferUnderflowException();
+        }
+
+        int[] tiles = new int[count];
+        buffer.asIntBuffer().get(tiles);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return tiles;
+    }
+}
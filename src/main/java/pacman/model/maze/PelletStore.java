@@ -0,0 +1,102 @@
+/*PelletStore.java*/
+package pacman.model.maze;
+
+import pacman.model.entity.staticentity.collectable.Collectable;
+
+import java.util.BitSet;
+
+/**
+ * Tracks the pellets of a maze by grid tile.
+ * <p>
+ * Each tile holds at most one pellet. Remaining pellets are stored in a bitset alongside a live counter,
+ * so pickups and completion checks are O(1), and resetting only refills the bits.
+ */
+public class PelletStore {
+
+    private final int width;
+    private final int height;
+    private final Collectable[] pellets;
+    private final BitSet initialPellets;
+    private final BitSet remainingPellets;
+    private int numRemaining;
+
+    public PelletStore(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.pellets = new Collectable[width * height];
+        this.initialPellets = new BitSet(width * height);
+        this.remainingPellets = new BitSet(width * height);
+    }
+
+    /**
+     * Places a pellet on the given grid tile
+     * @param pellet pellet to be placed
+     * @param x grid X position
+     * @param y grid Y position
+     */
+    public void add(Collectable pellet, int x, int y) {
+        if (!isInBounds(x, y)) {
+            return;
+        }
+
+        int index = y * width + x;
+        if (!remainingPellets.get(index)) {
+            numRemaining++;
+        }
+        pellets[index] = pellet;
+        initialPellets.set(index);
+        remainingPellets.set(index);
+    }
+
+    /**
+     * Removes the pellet on the given grid tile, if one remains there
+     * @param x grid X position
+     * @param y grid Y position
+     * @return the pellet removed from the tile, or null if there was none
+     */
+    public Collectable collectAt(int x, int y) {
+        if (!isInBounds(x, y)) {
+            return null;
+        }
+
+        int index = y * width + x;
+        if (!remainingPellets.get(index)) {
+            return null;
+        }
+
+        remainingPellets.clear(index);
+        numRemaining--;
+        return pellets[index];
+    }
+
+    /**
+     * Returns true if a pellet remains on the given grid tile
+     * @param x grid X position
+     * @param y grid Y position
+     * @return true, if a pellet remains on the tile
+     */
+    public boolean hasPellet(int x, int y) {
+        return isInBounds(x, y) && remainingPellets.get(y * width + x);
+    }
+
+    /**
+     * Gets the number of pellets that have not been collected
+     * @return number of remaining pellets
+     */
+    public int getNumRemaining() {
+        return numRemaining;
+    }
+
+    /**
+     * Restores every pellet that was placed in the maze
+     */
+    public void reset() {
+        remainingPellets.clear();
+        remainingPellets.or(initialPellets);
+        numRemaining = initialPellets.cardinality();
+    }
+
+    private boolean isInBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+}
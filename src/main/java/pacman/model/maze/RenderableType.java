@@ -5,6 +5,7 @@ package pacman.model.maze;
  * Mapping of characters used in map text files to renderable type
  */
 public interface RenderableType {
+    char EMPTY = '0';
     char HORIZONTAL_WALL = '1';
     char VERTICAL_WALL = '2';
     char UP_LEFT_WALL = '3';
@@ -14,4 +15,16 @@ public interface RenderableType {
     char PELLET = '7';
     char PACMAN = 'p';
     char GHOST = 'g';
+
+    /**
+     * @param renderableType character from a map file
+     * @return true, if an entity is created for the character
+     */
+    static boolean isEntity(char renderableType) {
+        return switch (renderableType) {
+            case HORIZONTAL_WALL, VERTICAL_WALL, UP_LEFT_WALL, UP_RIGHT_WALL, DOWN_LEFT_WALL, DOWN_RIGHT_WALL,
+                    PELLET, PACMAN, GHOST -> true;
+            default -> false;
+        };
+    }
 }
@@ -0,0 +1,106 @@
+/*TileMap.java*/
+package pacman.model.maze;
+
+import java.util.Arrays;
+
+/**
+ * The characters of a map file as a fixed-size grid of tiles, before any entities are created from them.
+ * Rows shorter than the widest row are padded with empty tiles.
+ * <p>
+ * Alongside the grid, the map lists the tiles that hold an entity as row-major tile indices in reading order,
+ * which is the order entities are created in. The list is derived from the grid, or read precomputed from a
+ * {@link MazeFile}.
+ */
+public class TileMap {
+
+    private final int width;
+    private final int height;
+    private final byte[] tiles;
+    private final int[] entityTiles;
+
+    /**
+     * @param width number of tiles in each row
+     * @param height number of rows
+     * @param tiles tile characters in row-major order, which the map takes ownership of
+     */
+    public TileMap(int width, int height, byte[] tiles) {
+        checkSize(width, height, tiles);
+        this.width = width;
+        this.height = height;
+        this.tiles = tiles;
+
+        int[] entities = new int[tiles.length];
+        int numEntities = 0;
+        for (int i = 0; i < tiles.length; i++) {
+            if (RenderableType.isEntity((char) tiles[i])) {
+                entities[numEntities++] = i;
+            }
+        }
+
+        this.entityTiles = Arrays.copyOf(entities, numEntities);
+    }
+
+    /**
+     * Creates a map whose entity tiles have already been worked out, which the map takes ownership of
+     * @param width number of tiles in each row
+     * @param height number of rows
+     * @param tiles tile characters in row-major order
+     * @param entityTiles tiles holding an entity, in reading order
+     */
+    public TileMap(int width, int height, byte[] tiles, int[] entityTiles) {
+        checkSize(width, height, tiles);
+        checkTiles(tiles.length, entityTiles);
+
+        this.width = width;
+        this.height = height;
+        this.tiles = tiles;
+        this.entityTiles = entityTiles;
+    }
+
+    private static void checkSize(int width, int height, byte[] tiles) {
+        if (width < 0 || height < 0 || tiles.length != (long) width * height) {
+            throw new IllegalArgumentException("Tile map must hold exactly width * height tiles");
+        }
+    }
+
+    private static void checkTiles(int numTiles, int[] indices) {
+        for (int index : indices) {
+            if (index < 0 || index >= numTiles) {
+                throw new IllegalArgumentException("Tile index " + index + " is outside the map");
+            }
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @param x column of the tile
+     * @param y row of the tile
+     * @return the character of the tile, as listed in {@link RenderableType}
+     */
+    public char getTile(int x, int y) {
+        return (char) tiles[y * width + x];
+    }
+
+    /**
+     * @param index row-major index of the tile
+     * @return the character of the tile, as listed in {@link RenderableType}
+     */
+    public char getTile(int index) {
+        return (char) tiles[index];
+    }
+
+    /**
+     * Gets the tiles holding an entity, in reading order. The array is shared and must not be modified.
+     * @return row-major indices of the tiles
+     */
+    public int[] getEntityTiles() {
+        return entityTiles;
+    }
+}
@@ -0,0 +1,111 @@
+/*TileSearch.java*/
+package pacman.model.maze;
+
+import pacman.model.entity.dynamic.physics.Direction;
+
+import java.util.Arrays;
+
+/**
+ * Breadth-first search over the open tiles of a maze.
+ * <p>
+ * The search reuses its queue between runs, so repeated searches over the same maze do not allocate.
+ */
+class TileSearch {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private final Maze maze;
+    private final int width;
+    private final int[] queue;
+
+    TileSearch(Maze maze) {
+        this.maze = maze;
+        this.width = maze.getWidth();
+        this.queue = new int[maze.getWidth() * maze.getHeight()];
+    }
+
+    /**
+     * Fills the distance of every tile from the source tile, in tiles
+     * @param sourceX grid X position of the source tile
+     * @param sourceY grid Y position of the source tile
+     * @param distances distances indexed by y * width + x; unreachable tiles and walls are set to -1
+     * @return the index of the last tile reached, which is one of the furthest from the source, or -1 if the
+     * source is not an open tile
+     */
+    int search(int sourceX, int sourceY, int[] distances) {
+        Arrays.fill(distances, -1);
+        if (!isInBounds(sourceX, sourceY) || maze.isWall(sourceX, sourceY)) {
+            return -1;
+        }
+
+        int head = 0;
+        int tail = 0;
+        int source = sourceY * width + sourceX;
+        distances[source] = 0;
+        queue[tail++] = source;
+
+        while (head < tail) {
+            int tile = queue[head++];
+            int x = tile % width;
+            int y = tile / width;
+
+            for (Direction direction : DIRECTIONS) {
+                int nextX = x + direction.getUnitX();
+                int nextY = y + direction.getUnitY();
+                if (!isInBounds(nextX, nextY) || maze.isWall(nextX, nextY)) {
+                    continue;
+                }
+
+                int next = nextY * width + nextX;
+                if (distances[next] == -1) {
+                    distances[next] = distances[tile] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        return queue[tail - 1];
+    }
+
+    /**
+     * Labels every open tile connected to the source tile that has not been labelled yet
+     * @param sourceX grid X position of the source tile
+     * @param sourceY grid Y position of the source tile
+     * @param labels labels indexed by y * width + x, with -1 marking unlabelled tiles
+     * @param label label to be given to the connected tiles
+     */
+    void flood(int sourceX, int sourceY, int[] labels, int label) {
+        int source = sourceY * width + sourceX;
+        if (!isInBounds(sourceX, sourceY) || maze.isWall(sourceX, sourceY) || labels[source] != -1) {
+            return;
+        }
+
+        int head = 0;
+        int tail = 0;
+        labels[source] = label;
+        queue[tail++] = source;
+
+        while (head < tail) {
+            int tile = queue[head++];
+            int x = tile % width;
+            int y = tile / width;
+
+            for (Direction direction : DIRECTIONS) {
+                int nextX = x + direction.getUnitX();
+                int nextY = y + direction.getUnitY();
+                if (!isInBounds(nextX, nextY) || maze.isWall(nextX, nextY)) {
+                    continue;
+                }
+
+                int next = nextY * width + nextX;
+                if (labels[next] == -1) {
+                    labels[next] = label;
+                    queue[tail++] = next;
+                }
+            }
+        }
+    }
+
+    private boolean isInBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < maze.getHeight();
+    }
+}
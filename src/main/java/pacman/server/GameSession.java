@@ -0,0 +1,138 @@
+/*GameSession.java*/
+package pacman.server;
+
+import pacman.controller.command.Command;
+import pacman.model.engine.GameEngine;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A single game hosted by a {@link SessionManager}, ticked at a fixed rate.
+ * <p>
+ * A session is only ever ticked by one thread at a time. Commands may be submitted from any thread, and are
+ * executed on the ticking thread at the start of the next tick.
+ */
+public class GameSession implements Delayed {
+
+    private final long id;
+    private final GameEngine gameEngine;
+    private final long tickPeriodNanos;
+    private final BlockingQueue<Command> commands;
+    private final AtomicBoolean closed;
+    private long deadline;
+    private volatile long numTicks;
+    private volatile long numMissedDeadlines;
+    private volatile RuntimeException failure;
+
+    /**
+     * @param id               id of the session
+     * @param gameEngine       the game being hosted, already started
+     * @param tickPeriodNanos  time between ticks, in nanoseconds
+     * @param commandCapacity  maximum number of commands waiting for the next tick
+     * @param firstDeadline    time of the first tick, as given by {@link System#nanoTime()}
+     */
+    GameSession(long id, GameEngine gameEngine, long tickPeriodNanos, int commandCapacity, long firstDeadline) {
+        this.id = id;
+        this.gameEngine = gameEngine;
+        this.tickPeriodNanos = tickPeriodNanos;
+        this.commands = new ArrayBlockingQueue<>(commandCapacity);
+        this.closed = new AtomicBoolean(false);
+        this.deadline = firstDeadline;
+    }
+
+    /**
+     * Queues a command to be executed before the next tick
+     * @param command command to be executed
+     * @return true, if the command was queued; false if the session is closed or too many commands are waiting
+     */
+    public boolean submit(Command command) {
+        return !isClosed() && commands.offer(command);
+    }
+
+    /**
+     * Runs the commands waiting for this tick, then ticks the game.
+     * Ticks that are a whole period or more late do not try to catch up; the periods that were skipped are
+     * counted as missed deadlines instead, and the next deadline is set one period from the latest one missed.
+     * @param now time the tick started, as given by {@link System#nanoTime()}
+     */
+    void tick(long now) {
+        Command command;
+        while ((command = commands.poll()) != null) {
+            command.execute();
+        }
+
+        gameEngine.tick();
+        numTicks++;
+
+        long lateness = now - deadline;
+        long missed = lateness >= tickPeriodNanos ? lateness / tickPeriodNanos : 0;
+        numMissedDeadlines += missed;
+        deadline += (missed + 1) * tickPeriodNanos;
+    }
+
+    /**
+     * Closes the session, so it is no longer ticked
+     * @return true, if this call closed the session; false if it was already closed
+     */
+    boolean close() {
+        return closed.compareAndSet(false, true);
+    }
+
+    /**
+     * Records the exception a tick of the session failed with
+     * @param failure exception thrown by the tick
+     */
+    void fail(RuntimeException failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * @return the exception that made a tick fail and the session close, or null if no tick has failed
+     */
+    public RuntimeException getFailure() {
+        return failure;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public GameEngine getGameEngine() {
+        return gameEngine;
+    }
+
+    /**
+     * @return the number of ticks run so far
+     */
+    public long getNumTicks() {
+        return numTicks;
+    }
+
+    /**
+     * @return the number of ticks skipped because the session could not be ticked before its next deadline
+     */
+    public long getNumMissedDeadlines() {
+        return numMissedDeadlines;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        if (other instanceof GameSession) {
+            return Long.compare(deadline - ((GameSession) other).deadline, 0);
+        }
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+}
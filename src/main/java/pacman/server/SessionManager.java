@@ -0,0 +1,43 @@
+/*SessionManager.java*/
+package pacman.server;
+
+import pacman.model.engine.GameEngine;
+
+/**
+ * Hosts many independent games in one JVM, ticking each at a fixed rate
+ */
+public interface SessionManager {
+
+    /**
+     * Starts the game and begins ticking it
+     * @param gameEngine game to be hosted
+     * @return the new session, or null if the manager is at capacity
+     */
+    GameSession openSession(GameEngine gameEngine);
+
+    /**
+     * Stops ticking the session and releases its place
+     * @param session session to be closed
+     */
+    void closeSession(GameSession session);
+
+    /**
+     * @return the number of open sessions
+     */
+    int getNumSessions();
+
+    /**
+     * @return the number of ticks run across all sessions
+     */
+    long getTotalTicks();
+
+    /**
+     * @return the number of tick deadlines missed across all sessions
+     */
+    long getTotalMissedDeadlines();
+
+    /**
+     * Closes every session and stops the scheduler and worker threads
+     */
+    void shutdown();
+}
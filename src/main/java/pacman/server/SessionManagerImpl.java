@@ -0,0 +1,192 @@
+/*SessionManagerImpl.java*/
+package pacman.server;
+
+import pacman.model.engine.GameEngine;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Concrete implementation of SessionManager.
+ * <p>
+ * Sessions wait in a delay queue ordered by their next tick deadline, and a single scheduler thread hands
+ * each due session to a fixed pool of worker threads, earliest deadline first. A session is only put back in
+ * the queue once its tick has finished, so no session can be ticked twice at once or crowd out the others.
+ * The number of ticks handed to the pool at once is bounded, so an overloaded pool pushes back on the
+ * scheduler and shows up as missed deadlines rather than an ever-growing backlog.
+ */
+public class SessionManagerImpl implements SessionManager {
+
+    private static final Logger LOGGER = Logger.getLogger(SessionManagerImpl.class.getName());
+    public static final int DEFAULT_TICKS_PER_SECOND = 30;
+    private static final int DEFAULT_COMMAND_CAPACITY = 32;
+    private static final int TICKS_IN_FLIGHT_PER_WORKER = 2;
+    private final int maxSessions;
+    private final long tickPeriodNanos;
+    private final int commandCapacity;
+    private final DelayQueue<GameSession> dueSessions;
+    private final Map<Long, GameSession> sessions;
+    private final AtomicInteger numSessions;
+    private final AtomicLong nextSessionId;
+    private final LongAdder totalTicks;
+    private final LongAdder totalMissedDeadlines;
+    private final Semaphore ticksInFlight;
+    private final ExecutorService workers;
+    private final Thread scheduler;
+
+    /**
+     * @param numWorkers  number of threads ticking sessions
+     * @param maxSessions maximum number of open sessions
+     */
+    public SessionManagerImpl(int numWorkers, int maxSessions) {
+        this(numWorkers, maxSessions, DEFAULT_TICKS_PER_SECOND, DEFAULT_COMMAND_CAPACITY);
+    }
+
+    /**
+     * @param numWorkers      number of threads ticking sessions
+     * @param maxSessions     maximum number of open sessions
+     * @param ticksPerSecond  rate every session is ticked at
+     * @param commandCapacity maximum number of commands each session holds between ticks
+     */
+    public SessionManagerImpl(int numWorkers, int maxSessions, int ticksPerSecond, int commandCapacity) {
+        if (numWorkers <= 0 || maxSessions <= 0 || ticksPerSecond <= 0 || commandCapacity <= 0) {
+            throw new IllegalArgumentException("Session manager settings must be positive");
+        }
+
+        this.maxSessions = maxSessions;
+        this.tickPeriodNanos = TimeUnit.SECONDS.toNanos(1) / ticksPerSecond;
+        this.commandCapacity = commandCapacity;
+        this.dueSessions = new DelayQueue<>();
+        this.sessions = new ConcurrentHashMap<>();
+        this.numSessions = new AtomicInteger();
+        this.nextSessionId = new AtomicLong();
+        this.totalTicks = new LongAdder();
+        this.totalMissedDeadlines = new LongAdder();
+        this.ticksInFlight = new Semaphore(numWorkers * TICKS_IN_FLIGHT_PER_WORKER);
+
+        AtomicInteger workerCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(numWorkers, runnable -> {
+            Thread thread = new Thread(runnable, "session-worker-" + workerCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.scheduler = new Thread(this::schedule, "session-scheduler");
+        this.scheduler.setDaemon(true);
+        this.scheduler.start();
+    }
+
+    @Override
+    public GameSession openSession(GameEngine gameEngine) {
+        // reserve a place first, so concurrent callers cannot overshoot the cap
+        if (numSessions.incrementAndGet() > maxSessions) {
+            numSessions.decrementAndGet();
+            return null;
+        }
+
+        gameEngine.startGame();
+        GameSession session = new GameSession(nextSessionId.getAndIncrement(), gameEngine, tickPeriodNanos,
+                commandCapacity, System.nanoTime() + tickPeriodNanos);
+        sessions.put(session.getId(), session);
+        dueSessions.put(session);
+        return session;
+    }
+
+    @Override
+    public void closeSession(GameSession session) {
+        if (session.close()) {
+            // a session being ticked is not in the queue, and is dropped by its worker instead
+            dueSessions.remove(session);
+            sessions.remove(session.getId());
+            numSessions.decrementAndGet();
+        }
+    }
+
+    private void schedule() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                GameSession session = dueSessions.take();
+                if (session.isClosed()) {
+                    continue;
+                }
+
+                ticksInFlight.acquire();
+                try {
+                    workers.execute(() -> {
+                        try {
+                            tick(session);
+                        } finally {
+                            ticksInFlight.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // the workers were shut down while this session was being handed over
+                    ticksInFlight.release();
+                    LOGGER.log(Level.FINE, "Stopping the scheduler after the workers were shut down", e);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void tick(GameSession session) {
+        if (session.isClosed()) {
+            return;
+        }
+
+        long missedBefore = session.getNumMissedDeadlines();
+        try {
+            session.tick(System.nanoTime());
+        } catch (RuntimeException e) {
+            // a failing game is torn down rather than taking the worker with it
+            session.fail(e);
+            LOGGER.log(Level.WARNING, "Closing session " + session.getId() + " after its tick failed", e);
+            closeSession(session);
+            return;
+        }
+
+        totalTicks.increment();
+        totalMissedDeadlines.add(session.getNumMissedDeadlines() - missedBefore);
+
+        if (!session.isClosed()) {
+            dueSessions.put(session);
+        }
+    }
+
+    @Override
+    public int getNumSessions() {
+        return numSessions.get();
+    }
+
+    @Override
+    public long getTotalTicks() {
+        return totalTicks.sum();
+    }
+
+    @Override
+    public long getTotalMissedDeadlines() {
+        return totalMissedDeadlines.sum();
+    }
+
+    @Override
+    public void shutdown() {
+        scheduler.interrupt();
+        workers.shutdownNow();
+        for (GameSession session : sessions.values()) {
+            closeSession(session);
+        }
+    }
+}
@@ -1,96 +1,108 @@
 /*GameWindow.java*/
 package pacman.view;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.animation.AnimationTimer;
 import javafx.scene.Scene;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
-import javafx.util.Duration;
+import pacman.model.engine.FrameSnapshot;
 import pacman.model.engine.GameEngine;
-import pacman.model.engine.GameObserver;
-import pacman.model.entity.Renderable;
+import pacman.model.engine.SimulationLoop;
+import pacman.view.assets.AssetCache;
+import pacman.view.assets.AssetCacheImpl;
 import pacman.view.background.BackgroundDrawer;
 import pacman.view.background.StandardBackgroundDrawer;
-import pacman.view.entity.EntityView;
-import pacman.view.entity.EntityViewImpl;
+import pacman.view.background.StaticLayerDrawer;
 import pacman.view.keyboard.KeyboardInputHandler;
+import pacman.view.renderer.EntityRenderer;
+import pacman.view.renderer.RendererType;
 import javafx.scene.text.Text;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
- * Responsible for managing the Pac-Man Game View
+ * Responsible for managing the Pac-Man Game View.
+ * The game runs on its own simulation thread; the window only draws the frame snapshots it publishes.
  */
-public class GameWindow implements GameObserver {
+public class GameWindow {
     public static final File FONT_FILE = new File("src/main/resources/maze/PressStart2P-Regular.ttf");
     private final Scene scene;
     private final Pane pane;
     private final GameEngine model;
-    private final List<EntityView> entityViews;
+    private final SimulationLoop simulation;
+    private final StaticLayerDrawer staticLayerDrawer;
+    private final EntityRenderer entityRenderer;
+    private final AssetCache assets;
     private Text scoreText;
     private Text livesText;
     private Text messageText;
 
     public GameWindow(GameEngine model, int width, int height) {
+        this(model, width, height, RendererType.NODES, AssetCacheImpl.getShared());
+    }
+
+    /**
+     * @param model game to be shown
+     * @param width width of the window
+     * @param height height of the window
+     * @param rendererType how entities are drawn
+     * @param assets cache images and fonts are taken from, which may be shared with other windows
+     */
+    public GameWindow(GameEngine model, int width, int height, RendererType rendererType, AssetCache assets) {
         this.model = model;
-        model.addObserver(this);
+        this.assets = assets;
+        this.simulation = new SimulationLoop(model);
 
         pane = new Pane();
         scene = new Scene(pane, width, height);
 
-        entityViews = new ArrayList<>();
-
-        KeyboardInputHandler keyboardInputHandler = new KeyboardInputHandler(model);
+        KeyboardInputHandler keyboardInputHandler = new KeyboardInputHandler(model, simulation);
         scene.setOnKeyPressed(keyboardInputHandler::handlePressed);
 
         BackgroundDrawer backgroundDrawer = new StandardBackgroundDrawer();
         backgroundDrawer.draw(model, pane);
 
+        staticLayerDrawer = new StaticLayerDrawer(pane, width, height, assets);
+        entityRenderer = rendererType.create(pane, width, height, assets);
+
         initializeUIElements();
     }
 
     private void initializeUIElements() {
-        try {
-            scoreText = new Text("Score: 0");
-            scoreText.setFont(Font.loadFont(new FileInputStream(FONT_FILE), 20));
-            scoreText.setFill(Color.WHITE);
-            scoreText.setX(10);
-            scoreText.setY(20);
-
-            livesText = new Text("Lives: 3");
-            livesText.setFont(Font.loadFont(new FileInputStream(FONT_FILE), 20));
-            livesText.setFill(Color.WHITE);
-            livesText.setX(300);
-            livesText.setY(20);
-
-            messageText = new Text("");
-            messageText.setFont(Font.loadFont(new FileInputStream(FONT_FILE), 30));
-            messageText.setFill(Color.YELLOW);
-            messageText.setX(150);
-            messageText.setY(300);
-
-            pane.getChildren().addAll(scoreText, livesText, messageText);
-        } catch (IOException e) {
-            System.err.println("Error loading font: " + e.getMessage());
-        }
+        Font hudFont = assets.getFont(FONT_FILE.getPath(), 20);
+        Font messageFont = assets.getFont(FONT_FILE.getPath(), 30);
+
+        scoreText = new Text("Score: 0");
+        scoreText.setFont(hudFont);
+        scoreText.setFill(Color.WHITE);
+        scoreText.setX(10);
+        scoreText.setY(20);
+
+        livesText = new Text("Lives: 3");
+        livesText.setFont(hudFont);
+        livesText.setFill(Color.WHITE);
+        livesText.setX(300);
+        livesText.setY(20);
+
+        messageText = new Text("");
+        messageText.setFont(messageFont);
+        messageText.setFill(Color.YELLOW);
+        messageText.setX(150);
+        messageText.setY(300);
+
+        pane.getChildren().addAll(scoreText, livesText, messageText);
     }
 
-    @Override
-    public void update(GameEngine gameEngine) {
-        scoreText.setText("Score: " + gameEngine.getScore());
-        livesText.setText("Lives: " + gameEngine.getLives());
+    private void updateHud(FrameSnapshot snapshot) {
+        scoreText.setText("Score: " + snapshot.getScore());
+        livesText.setText("Lives: " + snapshot.getLives());
 
-        if (gameEngine.isGameOver()) {
+        if (snapshot.isGameOver()) {
             showMessage("GAME OVER");
-        } else if (gameEngine.isLevelComplete()) {
+        } else if (snapshot.isLevelComplete()) {
             showMessage("YOU WIN!");
-        } else if (gameEngine.isReadyToStart()) {
+        } else if (snapshot.isReadyToStart()) {
             showMessage("READY!");
         } else {
             hideMessage();
@@ -111,47 +123,34 @@ public class GameWindow implements GameObserver {
     }
 
     public void run() {
-        Timeline timeline = new Timeline(new KeyFrame(Duration.millis(34),
-                t -> this.draw()));
-
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        timeline.play();
+        AnimationTimer timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                frame(now);
+            }
+        };
+        timer.start();
 
-        model.startGame();
+        simulation.start();
     }
 
-
-    private void draw() {
-        model.tick();
-
-        List<Renderable> entities = model.getRenderables();
-
-        for (EntityView entityView : entityViews) {
-            entityView.markForDelete();
-        }
-
-        for (Renderable entity : entities) {
-            boolean notFound = true;
-            for (EntityView view : entityViews) {
-                if (view.matchesEntity(entity)) {
-                    notFound = false;
-                    view.update();
-                    break;
-                }
-            }
-            if (notFound) {
-                EntityView entityView = new EntityViewImpl(entity);
-                entityViews.add(entityView);
-                pane.getChildren().add(entityView.getNode());
-            }
+    /**
+     * Draws the latest frame published by the simulation, with entities part way between their last two
+     * positions according to the time since that frame's tick
+     * @param now time of the current frame, in nanoseconds
+     */
+    private void frame(long now) {
+        FrameSnapshot snapshot = simulation.getLatestSnapshot();
+        if (!snapshot.isEmpty()) {
+            staticLayerDrawer.draw(snapshot);
+            double interpolation = (double) (now - snapshot.getTickTime()) / simulation.getTickNanos();
+            entityRenderer.render(snapshot, Math.max(0, Math.min(1, interpolation)));
+            updateHud(snapshot);
         }
 
-        for (EntityView entityView : entityViews) {
-            if (entityView.isMarkedForDelete()) {
-                pane.getChildren().remove(entityView.getNode());
-            }
+        // the last frame stays on screen once the game has failed
+        if (simulation.getFailure() != null) {
+            showMessage("GAME STOPPED");
         }
-
-        entityViews.removeIf(EntityView::isMarkedForDelete);
     }
 }
@@ -0,0 +1,35 @@
+/*AssetCache.java*/
+package pacman.view.assets;
+
+import javafx.scene.text.Font;
+
+/**
+ * Hands out a single shared instance of the sprite atlas and of each font, so every view and every game
+ * showing the same resource uses the same decoded copy of it
+ */
+public interface AssetCache {
+
+    /**
+     * Gets the atlas every sprite is drawn from, loading it the first time it is asked for
+     * @return the shared sprite atlas
+     */
+    SpriteAtlas getAtlas();
+
+    /**
+     * Gets the font at the given size, loading it the first time it is asked for
+     * @param fileName path of the font file
+     * @param size size of the font, in points
+     * @return the shared font, or the default font if the font file could not be loaded
+     */
+    Font getFont(String fileName, double size);
+
+    /**
+     * Loads the sprite atlas up front, so it is not decoded while the game is running
+     */
+    void preloadSprites();
+
+    /**
+     * @return the number of images and fonts currently loaded
+     */
+    int getNumLoaded();
+}
@@ -0,0 +1,81 @@
+/*AssetCacheImpl.java*/
+package pacman.view.assets;
+
+import javafx.scene.text.Font;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Concrete implementation of AssetCache.
+ * Assets are kept for the lifetime of the cache, which is normally the lifetime of the application, as the
+ * game only has a handful of them. The cache may be used from several threads and shared between games.
+ */
+public class AssetCacheImpl implements AssetCache {
+
+    private static final AssetCache SHARED = new AssetCacheImpl();
+    private final Map<String, Font> fonts;
+    private volatile SpriteAtlas atlas;
+
+    public AssetCacheImpl() {
+        this.fonts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return the cache shared by every game in the application
+     */
+    public static AssetCache getShared() {
+        return SHARED;
+    }
+
+    @Override
+    public SpriteAtlas getAtlas() {
+        SpriteAtlas loaded = atlas;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = atlas;
+                if (loaded == null) {
+                    loaded = new SpriteAtlas();
+                    atlas = loaded;
+                }
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public Font getFont(String fileName, double size) {
+        String key = fileName + "@" + size;
+        Font font = fonts.get(key);
+        if (font != null) {
+            return font;
+        }
+
+        try (InputStream stream = new FileInputStream(fileName)) {
+            font = Font.loadFont(stream, size);
+        } catch (IOException e) {
+            System.err.println("Error loading font: " + e.getMessage());
+        }
+
+        // a missing font is not cached, so it is retried the next time it is asked for
+        if (font == null) {
+            return Font.font(null, size);
+        }
+
+        Font existing = fonts.putIfAbsent(key, font);
+        return existing != null ? existing : font;
+    }
+
+    @Override
+    public void preloadSprites() {
+        getAtlas();
+    }
+
+    @Override
+    public int getNumLoaded() {
+        return (atlas != null ? 1 : 0) + fonts.size();
+    }
+}
@@ -0,0 +1,91 @@
+/*AtlasPacker.java*/
+package pacman.view.assets;
+
+import org.json.simple.JSONObject;
+import pacman.model.entity.Sprite;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Packs the image of every sprite into a single atlas image, with a JSON index of where each sprite is.
+ * <p>
+ * Run from the project root, as {@code gradle packAtlas}, whenever a sprite image is added or changed.
+ * Sprites are packed onto shelves, tallest first, with a transparent gap between them so neighbouring
+ * sprites never bleed into each other when scaled.
+ */
+public class AtlasPacker {
+
+    public static final String RESOURCE_DIRECTORY = "src/main/resources";
+    private static final int ATLAS_WIDTH = 128;
+    private static final int PADDING = 1;
+
+    public static void main(String[] args) throws IOException {
+        Map<Sprite, BufferedImage> images = new EnumMap<>(Sprite.class);
+        for (Sprite sprite : Sprite.values()) {
+            File file = new File(RESOURCE_DIRECTORY + sprite.getResourcePath());
+            BufferedImage image = ImageIO.read(file);
+            if (image == null) {
+                throw new IOException("Unable to read sprite image " + file);
+            }
+            images.put(sprite, image);
+        }
+
+        Sprite[] order = Sprite.values();
+        Arrays.sort(order, Comparator.comparingInt((Sprite sprite) -> images.get(sprite).getHeight()).reversed());
+
+        // place sprites left to right, starting a new shelf below the tallest sprite when a row is full
+        Map<Sprite, int[]> regions = new EnumMap<>(Sprite.class);
+        int x = PADDING;
+        int y = PADDING;
+        int shelfHeight = 0;
+        for (Sprite sprite : order) {
+            BufferedImage image = images.get(sprite);
+            if (x + image.getWidth() + PADDING > ATLAS_WIDTH) {
+                x = PADDING;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+
+            regions.put(sprite, new int[] {x, y, image.getWidth(), image.getHeight()});
+            x += image.getWidth() + PADDING;
+            shelfHeight = Math.max(shelfHeight, image.getHeight());
+        }
+
+        BufferedImage atlas = new BufferedImage(ATLAS_WIDTH, y + shelfHeight + PADDING, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = atlas.createGraphics();
+        for (Map.Entry<Sprite, int[]> region : regions.entrySet()) {
+            graphics.drawImage(images.get(region.getKey()), region.getValue()[0], region.getValue()[1], null);
+        }
+        graphics.dispose();
+
+        ImageIO.write(atlas, "png", new File(RESOURCE_DIRECTORY + SpriteAtlas.IMAGE_PATH));
+        writeIndex(regions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeIndex(Map<Sprite, int[]> regions) throws IOException {
+        JSONObject sprites = new JSONObject();
+        for (Map.Entry<Sprite, int[]> region : regions.entrySet()) {
+            JSONObject bounds = new JSONObject();
+            bounds.put("x", region.getValue()[0]);
+            bounds.put("y", region.getValue()[1]);
+            bounds.put("width", region.getValue()[2]);
+            bounds.put("height", region.getValue()[3]);
+            sprites.put(region.getKey().name(), bounds);
+        }
+
+        try (Writer writer = new FileWriter(RESOURCE_DIRECTORY + SpriteAtlas.INDEX_PATH)) {
+            writer.write(sprites.toJSONString());
+        }
+    }
+}
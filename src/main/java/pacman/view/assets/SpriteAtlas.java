@@ -0,0 +1,112 @@
+/*SpriteAtlas.java*/
+package pacman.view.assets;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import pacman.ConfigurationParseException;
+import pacman.model.entity.Sprite;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Every sprite packed into one image, along with where in that image each sprite is.
+ * The atlas is produced from the individual sprite images by {@link AtlasPacker}.
+ */
+public class SpriteAtlas {
+
+    public static final String IMAGE_PATH = "/maze/atlas.png";
+    public static final String INDEX_PATH = "/maze/atlas.json";
+    private final Image image;
+    private final Map<Sprite, double[]> regions;
+    private final Map<Sprite, Rectangle2D> viewports;
+
+    /**
+     * Loads the atlas image and its index from the resources
+     * @throws ConfigurationParseException if the index is missing, malformed or does not cover every sprite
+     */
+    public SpriteAtlas() {
+        this.regions = readIndex();
+        this.viewports = new EnumMap<>(Sprite.class);
+        for (Map.Entry<Sprite, double[]> region : regions.entrySet()) {
+            double[] bounds = region.getValue();
+            viewports.put(region.getKey(), new Rectangle2D(bounds[0], bounds[1], bounds[2], bounds[3]));
+        }
+        this.image = new Image(IMAGE_PATH);
+    }
+
+    private static Map<Sprite, double[]> readIndex() {
+        InputStream stream = SpriteAtlas.class.getResourceAsStream(INDEX_PATH);
+        if (stream == null) {
+            throw new ConfigurationParseException("Sprite atlas index " + INDEX_PATH + " not found");
+        }
+
+        JSONObject index;
+        try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            index = (JSONObject) new JSONParser().parse(reader);
+        } catch (IOException | ParseException | ClassCastException e) {
+            throw new ConfigurationParseException("Error reading sprite atlas index: " + e.getMessage(), e);
+        }
+
+        Map<Sprite, double[]> regions = new EnumMap<>(Sprite.class);
+        for (Sprite sprite : Sprite.values()) {
+            if (!(index.get(sprite.name()) instanceof JSONObject)) {
+                throw new ConfigurationParseException("Sprite " + sprite + " is missing from the sprite atlas");
+            }
+
+            JSONObject bounds = (JSONObject) index.get(sprite.name());
+
+            regions.put(sprite, new double[] {
+                    getNumber(bounds, sprite, "x"), getNumber(bounds, sprite, "y"),
+                    getNumber(bounds, sprite, "width"), getNumber(bounds, sprite, "height")
+            });
+        }
+        return regions;
+    }
+
+    private static double getNumber(JSONObject bounds, Sprite sprite, String key) {
+        if (!(bounds.get(key) instanceof Number)) {
+            throw new ConfigurationParseException("Sprite " + sprite + " has no " + key + " in the sprite atlas");
+        }
+        return ((Number) bounds.get(key)).doubleValue();
+    }
+
+    /**
+     * @return the image every sprite is packed into
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * @param sprite sprite to be shown
+     * @return region of the atlas image holding the sprite, for use as an image view's viewport
+     */
+    public Rectangle2D getViewport(Sprite sprite) {
+        return viewports.get(sprite);
+    }
+
+    public double getX(Sprite sprite) {
+        return regions.get(sprite)[0];
+    }
+
+    public double getY(Sprite sprite) {
+        return regions.get(sprite)[1];
+    }
+
+    public double getWidth(Sprite sprite) {
+        return regions.get(sprite)[2];
+    }
+
+    public double getHeight(Sprite sprite) {
+        return regions.get(sprite)[3];
+    }
+}
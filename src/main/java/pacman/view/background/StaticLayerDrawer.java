@@ -0,0 +1,76 @@
+/*StaticLayerDrawer.java*/
+package pacman.view.background;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import pacman.model.engine.FrameSnapshot;
+import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
+import pacman.view.assets.AssetCache;
+import pacman.view.assets.SpriteAtlas;
+
+/**
+ * Draws the entities that never change, such as walls, into a single image shown behind the rest of the game.
+ * The image is rasterized once, from the first frame, so the renderers only have to draw pellets and actors.
+ */
+public class StaticLayerDrawer {
+
+    private static final double VIEW_ORDER = 500.0;
+    private final Pane pane;
+    private final double width;
+    private final double height;
+    private final AssetCache assets;
+    private boolean drawn;
+
+    /**
+     * @param pane pane the image is added to
+     * @param width width of the game screen
+     * @param height height of the game screen
+     * @param assets cache the sprite atlas is taken from
+     */
+    public StaticLayerDrawer(Pane pane, double width, double height, AssetCache assets) {
+        this.pane = pane;
+        this.width = width;
+        this.height = height;
+        this.assets = assets;
+    }
+
+    /**
+     * Rasterizes the unchanging entities of the frame, if they have not been already
+     * @param snapshot frame to take the unchanging entities from
+     */
+    public void draw(FrameSnapshot snapshot) {
+        if (drawn) {
+            return;
+        }
+
+        Canvas canvas = new Canvas(width, height);
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        SpriteAtlas atlas = assets.getAtlas();
+
+        for (int i = 0; i < snapshot.getSize(); i++) {
+            if (!snapshot.isUnchanging(i) || snapshot.getLayer(i) == Renderable.Layer.INVISIBLE) {
+                continue;
+            }
+
+            Sprite sprite = snapshot.getSprite(i);
+            graphics.drawImage(atlas.getImage(),
+                    atlas.getX(sprite), atlas.getY(sprite), atlas.getWidth(sprite), atlas.getHeight(sprite),
+                    snapshot.getX(i), snapshot.getY(i), snapshot.getWidth(i), snapshot.getHeight(i));
+        }
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        WritableImage staticLayer = canvas.snapshot(parameters, null);
+
+        ImageView view = new ImageView(staticLayer);
+        view.setViewOrder(VIEW_ORDER);
+        pane.getChildren().add(view);
+        drawn = true;
+    }
+}
@@ -2,6 +2,7 @@
 package pacman.view.entity;
 
 import javafx.scene.Node;
+import pacman.model.engine.FrameSnapshot;
 import pacman.model.entity.Renderable;
 
 /**
@@ -11,8 +12,17 @@ public interface EntityView {
 
     /**
      * Update rendering of Game entity with updated position, visibility etc.
+     * @param snapshot frame to be drawn
+     * @param index index of the entity in the frame
+     * @param interpolation how far between the entity's previous and current position to draw it, from 0 to 1
      */
-    void update();
+    void update(FrameSnapshot snapshot, int index, double interpolation);
+
+    /**
+     * Returns whether the entity was visible in the last update; invisible entities are left out of the scene
+     * @return true, if the entity was visible
+     */
+    boolean isVisible();
 
     /**
      * Checks if two entities are equals
@@ -4,25 +4,46 @@ package pacman.view.entity;
 import javafx.scene.Node;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
+import pacman.model.engine.FrameSnapshot;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
+import pacman.view.assets.AssetCache;
+import pacman.view.assets.SpriteAtlas;
 
 /**
- * Concrete implementation of EntityView
+ * Concrete implementation of EntityView.
+ * The last values pushed to the node are remembered, so a node is only touched when something about it changes.
  */
 public class EntityViewImpl implements EntityView {
     private final Renderable entity;
     private boolean delete = false;
     private final ImageView node;
     private final HBox box;
+    private final SpriteAtlas atlas;
+    private Sprite sprite;
+    private boolean visible;
+    private double layoutX = Double.NaN;
+    private double layoutY = Double.NaN;
+    private double fitWidth = Double.NaN;
+    private double fitHeight = Double.NaN;
 
-    public EntityViewImpl(Renderable entity) {
-        this.entity = entity;
+    /**
+     * @param snapshot frame the entity first appears in
+     * @param index index of the entity in the frame
+     * @param assets cache the sprite atlas is taken from
+     */
+    public EntityViewImpl(FrameSnapshot snapshot, int index, AssetCache assets) {
+        this.entity = snapshot.getRenderable(index);
         box = new HBox();
-        node = new ImageView(entity.getImage());
+        this.atlas = assets.getAtlas();
+        sprite = snapshot.getSprite(index);
+        node = new ImageView(atlas.getImage());
+        node.setViewport(atlas.getViewport(sprite));
         box.getChildren().add(node);
-        box.setViewOrder(getViewOrder(entity.getLayer()));
+        box.setViewOrder(getViewOrder(snapshot.getLayer(index)));
         box.setFillHeight(true);
-        update();
+        node.setPreserveRatio(true);
+        update(snapshot, index, 1);
     }
 
     private static double getViewOrder(Renderable.Layer layer) {
@@ -35,22 +56,44 @@ public class EntityViewImpl implements EntityView {
     }
 
     @Override
-    public void update() {
-        if (entity.getLayer() != Renderable.Layer.INVISIBLE) {
-            node.setVisible(true);
-            if (!node.getImage().equals(entity.getImage())) {
-                node.setImage(entity.getImage());
-            }
-            box.setLayoutX(entity.getPosition().getX());
-            box.setLayoutY(entity.getPosition().getY());
-            node.setFitHeight(entity.getHeight());
-            node.setFitWidth(entity.getWidth());
-            node.setPreserveRatio(true);
-        } else {
-            node.setVisible(false);
+    public void update(FrameSnapshot snapshot, int index, double interpolation) {
+        delete = false;
+        visible = snapshot.getLayer(index) != Renderable.Layer.INVISIBLE;
+        if (!visible) {
+            return;
         }
 
-        delete = false;
+        if (sprite != snapshot.getSprite(index)) {
+            sprite = snapshot.getSprite(index);
+            node.setViewport(atlas.getViewport(sprite));
+        }
+
+        double previousX = snapshot.getPreviousX(index);
+        double previousY = snapshot.getPreviousY(index);
+        double x = previousX + (snapshot.getX(index) - previousX) * interpolation;
+        double y = previousY + (snapshot.getY(index) - previousY) * interpolation;
+        if (x != layoutX) {
+            layoutX = x;
+            box.setLayoutX(x);
+        }
+        if (y != layoutY) {
+            layoutY = y;
+            box.setLayoutY(y);
+        }
+
+        if (snapshot.getWidth(index) != fitWidth) {
+            fitWidth = snapshot.getWidth(index);
+            node.setFitWidth(fitWidth);
+        }
+        if (snapshot.getHeight(index) != fitHeight) {
+            fitHeight = snapshot.getHeight(index);
+            node.setFitHeight(fitHeight);
+        }
+    }
+
+    @Override
+    public boolean isVisible() {
+        return visible;
     }
 
     @Override
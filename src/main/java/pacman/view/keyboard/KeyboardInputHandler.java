@@ -4,13 +4,20 @@ package pacman.view.keyboard;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import pacman.model.engine.GameEngine;
+import pacman.model.engine.SimulationLoop;
 import pacman.controller.command.*;
 
 public class KeyboardInputHandler {
     private final GameEngine gameEngine;
+    private final SimulationLoop simulation;
 
-    public KeyboardInputHandler(GameEngine gameEngine) {
+    /**
+     * @param gameEngine game the commands act on
+     * @param simulation simulation the commands are sent to, so they run on the simulation thread
+     */
+    public KeyboardInputHandler(GameEngine gameEngine, SimulationLoop simulation) {
         this.gameEngine = gameEngine;
+        this.simulation = simulation;
     }
 
     public void handlePressed(KeyEvent keyEvent) {
@@ -29,9 +36,12 @@ public class KeyboardInputHandler {
             case UP:
                 command = new MoveUpCommand(gameEngine);
                 break;
+            case T:
+                command = new DumpGhostTracesCommand(gameEngine);
+                break;
         }
         if (command != null) {
-            command.execute();
+            simulation.submit(command);
         }
     }
 }
\ No newline at end of file
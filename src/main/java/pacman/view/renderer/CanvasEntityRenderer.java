@@ -0,0 +1,82 @@
+/*CanvasEntityRenderer.java*/
+package pacman.view.renderer;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import pacman.model.engine.FrameSnapshot;
+import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
+import pacman.view.assets.AssetCache;
+import pacman.view.assets.SpriteAtlas;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Renders every changing entity into a single canvas per layer, redrawing the canvases each frame.
+ * This keeps the scene graph down to a few nodes however many entities there are, and every sprite is
+ * drawn from the same atlas image.
+ */
+public class CanvasEntityRenderer implements EntityRenderer {
+
+    private final Map<Renderable.Layer, GraphicsContext> layers;
+    private final SpriteAtlas atlas;
+    private final double width;
+    private final double height;
+
+    /**
+     * @param pane pane the canvases are added to
+     * @param width width of the game screen
+     * @param height height of the game screen
+     * @param assets cache the sprite atlas is taken from
+     */
+    public CanvasEntityRenderer(Pane pane, double width, double height, AssetCache assets) {
+        this.width = width;
+        this.height = height;
+        this.layers = new EnumMap<>(Renderable.Layer.class);
+        this.atlas = assets.getAtlas();
+
+        // canvases are added in drawing order, and share the view orders the node renderer gives each layer
+        for (Renderable.Layer layer : Renderable.Layer.values()) {
+            if (layer == Renderable.Layer.INVISIBLE) {
+                continue;
+            }
+
+            Canvas canvas = new Canvas(width, height);
+            canvas.setViewOrder(getViewOrder(layer));
+            pane.getChildren().add(canvas);
+            layers.put(layer, canvas.getGraphicsContext2D());
+        }
+    }
+
+    private static double getViewOrder(Renderable.Layer layer) {
+        return layer == Renderable.Layer.EFFECT ? 25.0 : 100.0;
+    }
+
+    @Override
+    public void render(FrameSnapshot snapshot, double interpolation) {
+        for (GraphicsContext graphics : layers.values()) {
+            graphics.clearRect(0, 0, width, height);
+        }
+
+        for (int i = 0; i < snapshot.getSize(); i++) {
+            GraphicsContext graphics = layers.get(snapshot.getLayer(i));
+            if (graphics == null || snapshot.isUnchanging(i)) {
+                continue;
+            }
+
+            Sprite sprite = snapshot.getSprite(i);
+            double previousX = snapshot.getPreviousX(i);
+            double previousY = snapshot.getPreviousY(i);
+            double x = previousX + (snapshot.getX(i) - previousX) * interpolation;
+            double y = previousY + (snapshot.getY(i) - previousY) * interpolation;
+
+            // fit the sprite within the entity's bounds, keeping its aspect ratio as the node renderer does
+            double scale = Math.min(snapshot.getWidth(i) / sprite.getWidth(), snapshot.getHeight(i) / sprite.getHeight());
+            graphics.drawImage(atlas.getImage(),
+                    atlas.getX(sprite), atlas.getY(sprite), atlas.getWidth(sprite), atlas.getHeight(sprite),
+                    x, y, sprite.getWidth() * scale, sprite.getHeight() * scale);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+/*EntityRenderer.java*/
+package pacman.view.renderer;
+
+import pacman.model.engine.FrameSnapshot;
+
+/**
+ * Draws the entities of a frame onto the game screen
+ */
+public interface EntityRenderer {
+
+    /**
+     * Draws every visible entity in the frame
+     * @param snapshot frame to be drawn
+     * @param interpolation how far between each entity's previous and current position to draw it, from 0 to 1
+     */
+    void render(FrameSnapshot snapshot, double interpolation);
+}
@@ -0,0 +1,75 @@
+/*NodeEntityRenderer.java*/
+package pacman.view.renderer;
+
+import javafx.scene.layout.Pane;
+import pacman.model.engine.FrameSnapshot;
+import pacman.model.entity.Renderable;
+import pacman.view.assets.AssetCache;
+import pacman.view.entity.EntityView;
+import pacman.view.entity.EntityViewImpl;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Renders each changing entity as its own node in the scene graph.
+ * Views are found by entity identity, and the nodes of invisible entities, such as collected pellets, are
+ * detached from the scene until the entity becomes visible again.
+ */
+public class NodeEntityRenderer implements EntityRenderer {
+
+    private final Pane pane;
+    private final AssetCache assets;
+    private final Map<Renderable, EntityView> entityViews;
+
+    /**
+     * @param pane pane the nodes are added to
+     * @param assets cache the entity images are taken from
+     */
+    public NodeEntityRenderer(Pane pane, AssetCache assets) {
+        this.pane = pane;
+        this.assets = assets;
+        this.entityViews = new IdentityHashMap<>();
+    }
+
+    @Override
+    public void render(FrameSnapshot snapshot, double interpolation) {
+        for (EntityView entityView : entityViews.values()) {
+            entityView.markForDelete();
+        }
+
+        for (int i = 0; i < snapshot.getSize(); i++) {
+            if (snapshot.isUnchanging(i)) {
+                continue;
+            }
+
+            Renderable entity = snapshot.getRenderable(i);
+            EntityView view = entityViews.get(entity);
+            if (view == null) {
+                view = new EntityViewImpl(snapshot, i, assets);
+                entityViews.put(entity, view);
+                if (view.isVisible()) {
+                    pane.getChildren().add(view.getNode());
+                }
+                continue;
+            }
+
+            boolean wasVisible = view.isVisible();
+            view.update(snapshot, i, interpolation);
+            if (view.isVisible() != wasVisible) {
+                if (view.isVisible()) {
+                    pane.getChildren().add(view.getNode());
+                } else {
+                    pane.getChildren().remove(view.getNode());
+                }
+            }
+        }
+
+        entityViews.values().removeIf(entityView -> {
+            if (entityView.isMarkedForDelete() && entityView.isVisible()) {
+                pane.getChildren().remove(entityView.getNode());
+            }
+            return entityView.isMarkedForDelete();
+        });
+    }
+}
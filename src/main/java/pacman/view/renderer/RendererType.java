@@ -0,0 +1,49 @@
+/*RendererType.java*/
+package pacman.view.renderer;
+
+import javafx.scene.layout.Pane;
+import pacman.view.assets.AssetCache;
+
+/**
+ * The available ways of drawing entities, chosen at startup
+ */
+public enum RendererType {
+    /**
+     * A scene graph node for every entity
+     */
+    NODES,
+
+    /**
+     * Every entity drawn into one canvas per layer
+     */
+    CANVAS;
+
+    /**
+     * Creates a renderer of this type drawing into the pane
+     * @param pane pane the game is shown in
+     * @param width width of the game screen
+     * @param height height of the game screen
+     * @param assets cache the entity images are taken from
+     * @return the new renderer
+     */
+    public EntityRenderer create(Pane pane, double width, double height, AssetCache assets) {
+        return switch (this) {
+            case NODES -> new NodeEntityRenderer(pane, assets);
+            case CANVAS -> new CanvasEntityRenderer(pane, width, height, assets);
+        };
+    }
+
+    /**
+     * Gets the renderer type with the given name, ignoring case
+     * @param name name of the renderer type, or null
+     * @return the named renderer type, or NODES if the name is null or unknown
+     */
+    public static RendererType fromName(String name) {
+        for (RendererType type : values()) {
+            if (type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        return NODES;
+    }
+}
@@ -0,0 +1,89 @@
+/*BroadPhaseGridBenchmark.java*/
+package pacman.model.entity.dynamic.physics;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Times a tick of the collision broad phase, rebuilding the grid and querying it around the player, as the
+ * number of ghosts and the size of the world grow. Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+public class BroadPhaseGridBenchmark {
+
+    private static final double CELL_SIZE = 32;
+    private static final int BATCHES = 7;
+    private static final long BATCH_NANOS = 100_000_000;
+    private static int sink;
+
+    /**
+     * Gets the fastest time per tick over several batches, which is the least disturbed by other work
+     */
+    private static double nanosPerTick(double worldSize, int numGhosts) {
+        SplittableRandom random = new SplittableRandom(numGhosts);
+        BoundingBox[] ghosts = new BoundingBox[numGhosts];
+        for (int i = 0; i < numGhosts; i++) {
+            ghosts[i] = new BoundingBoxImpl(new Vector2D(random.nextDouble(worldSize), random.nextDouble(worldSize)), 28, 28);
+        }
+        BoundingBox player = new BoundingBoxImpl(new Vector2D(worldSize / 2, worldSize / 2), 26, 24);
+        BroadPhaseGrid grid = new BroadPhaseGrid(worldSize, worldSize, CELL_SIZE, numGhosts);
+        int[] candidates = new int[numGhosts];
+
+        double best = Double.POSITIVE_INFINITY;
+        for (int batch = 0; batch < BATCHES; batch++) {
+            long ticks = 0;
+            long start = System.nanoTime();
+            long elapsed;
+            do {
+                grid.clear();
+                for (int i = 0; i < numGhosts; i++) {
+                    grid.insert(i, ghosts[i]);
+                }
+                sink += grid.query(player, candidates);
+                ticks++;
+                elapsed = System.nanoTime() - start;
+            } while (elapsed < BATCH_NANOS);
+            best = Math.min(best, (double) elapsed / ticks);
+        }
+        return best;
+    }
+
+    @Test
+    public void scalesLinearlyWithGhostCount() {
+        double worldSize = 8192;
+        nanosPerTick(worldSize, 1000);
+
+        System.out.println("ghosts   ns/tick   ns/ghost");
+        double smallest = 0;
+        double largest = 0;
+        for (int numGhosts = 1000; numGhosts <= 16000; numGhosts *= 2) {
+            double nanos = nanosPerTick(worldSize, numGhosts);
+            System.out.printf("%6d %9.0f %10.2f%n", numGhosts, nanos, nanos / numGhosts);
+            if (smallest == 0) {
+                smallest = nanos / numGhosts;
+            }
+            largest = nanos / numGhosts;
+        }
+
+        // linear scaling keeps the cost per ghost flat; the margin allows for cache effects and timing noise
+        assertTrue(largest < smallest * 3, "cost per ghost grew from " + smallest + " to " + largest + " ns");
+    }
+
+    @Test
+    public void doesNotDependOnWorldSize() {
+        int numGhosts = 100;
+        nanosPerTick(1024, numGhosts);
+
+        double small = nanosPerTick(1024, numGhosts);
+        double large = nanosPerTick(32768, numGhosts);
+        System.out.printf("%d ghosts: %.0f ns/tick in a 1024px world, %.0f ns/tick in a 32768px world%n",
+                numGhosts, small, large);
+
+        // the large world has 1024 times as many cells, which clearing every cell would show directly
+        assertTrue(large < small * 4, "tick took " + small + " ns in the small world and " + large + " ns in the large one");
+    }
+}
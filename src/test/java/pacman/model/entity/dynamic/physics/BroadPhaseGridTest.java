@@ -0,0 +1,59 @@
+/*BroadPhaseGridTest.java*/
+package pacman.model.entity.dynamic.physics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BroadPhaseGridTest {
+
+    private static BoundingBox box(double x, double y) {
+        return new BoundingBoxImpl(new Vector2D(x, y), 28, 28);
+    }
+
+    private static int[] query(BroadPhaseGrid grid, BoundingBox box, int capacity) {
+        int[] candidates = new int[capacity];
+        int count = grid.query(box, candidates);
+        int[] found = Arrays.copyOf(candidates, count);
+        Arrays.sort(found);
+        return found;
+    }
+
+    @Test
+    public void queryFindsNearbyBoxesOnly() {
+        BroadPhaseGrid grid = new BroadPhaseGrid(448, 576, 32, 3);
+        grid.insert(0, box(100, 100));
+        grid.insert(1, box(110, 120));
+        grid.insert(2, box(400, 500));
+
+        assertArrayEquals(new int[] {0, 1}, query(grid, box(105, 105), 3));
+        assertArrayEquals(new int[] {2}, query(grid, box(410, 520), 3));
+    }
+
+    @Test
+    public void clearRemovesEveryBox() {
+        BroadPhaseGrid grid = new BroadPhaseGrid(448, 576, 32, 2);
+        grid.insert(0, box(100, 100));
+        grid.insert(1, box(300, 300));
+        grid.clear();
+
+        assertEquals(0, query(grid, box(100, 100), 2).length);
+        assertEquals(0, query(grid, box(300, 300), 2).length);
+
+        grid.insert(1, box(100, 100));
+        assertArrayEquals(new int[] {1}, query(grid, box(100, 100), 2));
+    }
+
+    @Test
+    public void growsPastItsCapacity() {
+        BroadPhaseGrid grid = new BroadPhaseGrid(448, 576, 32, 1);
+        for (int id = 0; id < 10; id++) {
+            grid.insert(id, box(200, 200));
+        }
+
+        assertEquals(10, query(grid, box(200, 200), 10).length);
+    }
+}
@@ -0,0 +1,97 @@
+/*MovementAllocationTest.java*/
+package pacman.model.level;
+
+import org.junit.jupiter.api.Test;
+import pacman.model.entity.dynamic.ghost.GhostMode;
+import pacman.model.entity.dynamic.physics.KinematicStore;
+import pacman.model.maze.Maze;
+import pacman.model.maze.MazeCreator;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that ticking a level, with ghost decisions, movement, wall collisions and the broad phase, allocates
+ * nothing per tick
+ */
+public class MovementAllocationTest {
+
+    private static final String MAP_FILE = "src/main/resources/map.txt";
+    private static final int WARMUP_TICKS = 20_000;
+    private static final int MEASURED_TICKS = 10_000;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int TURN_TICKS = 12;
+
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    public void tickingWithOwnStatesDoesNotAllocate() {
+        assertEquals(0, measureAllocatedBytes(null));
+    }
+
+    @Test
+    public void tickingWithKinematicStoreDoesNotAllocate() {
+        assertEquals(0, measureAllocatedBytes(new KinematicStore(8)));
+    }
+
+    /**
+     * Measures the fewest bytes allocated over several rounds of ticks.
+     * Queuing a method for compilation can make the JVM create strings on the ticking thread, at times that vary
+     * from run to run; that happens once, while allocating per tick shows up in every round.
+     */
+    private long measureAllocatedBytes(KinematicStore kinematicStore) {
+        Level level = createLevel(kinematicStore);
+        SplittableRandom random = new SplittableRandom(7);
+        tick(level, random, WARMUP_TICKS);
+
+        // reading the counter may itself allocate, so that is measured first and discounted
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        long start = threadBean.getThreadAllocatedBytes(threadId);
+        long overhead = start - before;
+
+        long fewestBytes = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS && fewestBytes > 0; round++) {
+            start = threadBean.getThreadAllocatedBytes(threadId);
+            tick(level, random, MEASURED_TICKS);
+            fewestBytes = Math.min(fewestBytes, threadBean.getThreadAllocatedBytes(threadId) - start - overhead);
+        }
+        return fewestBytes;
+    }
+
+    private static Level createLevel(KinematicStore kinematicStore) {
+        Maze maze = new MazeCreator(MAP_FILE, kinematicStore, 42L).createMaze();
+        // the player must not run out of lives however often the ghosts catch it
+        maze.setNumLives(Integer.MAX_VALUE);
+
+        Map<GhostMode, Double> ghostSpeeds = new EnumMap<>(GhostMode.class);
+        ghostSpeeds.put(GhostMode.CHASE, 1.25);
+        ghostSpeeds.put(GhostMode.SCATTER, 1.0);
+        Map<GhostMode, Integer> modeLengths = new EnumMap<>(GhostMode.class);
+        modeLengths.put(GhostMode.CHASE, 300);
+        modeLengths.put(GhostMode.SCATTER, 200);
+        return new LevelImpl(new LevelConfiguration(1.5, ghostSpeeds, modeLengths), maze);
+    }
+
+    /**
+     * Ticks the level, turning the player a random way every few ticks so that it wanders through the maze
+     */
+    private static void tick(Level level, SplittableRandom random, int numTicks) {
+        for (int tick = 0; tick < numTicks; tick++) {
+            if (tick % TURN_TICKS == 0) {
+                switch (random.nextInt(4)) {
+                    case 0 -> level.moveUp();
+                    case 1 -> level.moveLeft();
+                    case 2 -> level.moveDown();
+                    default -> level.moveRight();
+                }
+            }
+            level.tick();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*GameSessionTest.java*/
+package pacman.server;
+
+import org.junit.jupiter.api.Test;
+import pacman.model.engine.GameEngine;
+import pacman.model.engine.GameObserver;
+import pacman.model.entity.Renderable;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GameSessionTest {
+
+    private static final long PERIOD = 1_000_000L;
+    private static final long FIRST_DEADLINE = 5_000_000L;
+
+    private static GameSession session(GameEngine gameEngine) {
+        return new GameSession(1, gameEngine, PERIOD, 4, FIRST_DEADLINE);
+    }
+
+    /**
+     * Checks the session's next deadline by comparing it with a session whose first deadline is the expected one
+     */
+    private static void assertNextDeadline(long expected, GameSession session) {
+        GameSession reference = new GameSession(2, new CountingEngine(), PERIOD, 4, expected);
+        assertEquals(0, session.compareTo(reference));
+    }
+
+    @Test
+    public void tickOnTimeMissesNothing() {
+        CountingEngine gameEngine = new CountingEngine();
+        GameSession session = session(gameEngine);
+
+        session.tick(FIRST_DEADLINE);
+
+        assertEquals(1, gameEngine.numTicks);
+        assertEquals(1, session.getNumTicks());
+        assertEquals(0, session.getNumMissedDeadlines());
+        assertNextDeadline(FIRST_DEADLINE + PERIOD, session);
+    }
+
+    @Test
+    public void tickLessThanAPeriodLateKeepsTheSchedule() {
+        GameSession session = session(new CountingEngine());
+
+        session.tick(FIRST_DEADLINE + PERIOD - 1);
+
+        assertEquals(0, session.getNumMissedDeadlines());
+        assertNextDeadline(FIRST_DEADLINE + PERIOD, session);
+    }
+
+    @Test
+    public void tickWholePeriodsLateCountsThemAsMissed() {
+        GameSession session = session(new CountingEngine());
+
+        session.tick(FIRST_DEADLINE + PERIOD);
+        assertEquals(1, session.getNumMissedDeadlines());
+        assertNextDeadline(FIRST_DEADLINE + 2 * PERIOD, session);
+
+        session.tick(FIRST_DEADLINE + 2 * PERIOD + 3 * PERIOD + PERIOD / 2);
+        assertEquals(4, session.getNumMissedDeadlines());
+        assertNextDeadline(FIRST_DEADLINE + 6 * PERIOD, session);
+        assertEquals(2, session.getNumTicks());
+    }
+
+    @Test
+    public void tickBeforeItsDeadlineMissesNothing() {
+        GameSession session = session(new CountingEngine());
+
+        session.tick(FIRST_DEADLINE - 3 * PERIOD);
+
+        assertEquals(0, session.getNumMissedDeadlines());
+        assertNextDeadline(FIRST_DEADLINE + PERIOD, session);
+    }
+
+    @Test
+    public void commandsRunBeforeTheTick() {
+        CountingEngine gameEngine = new CountingEngine();
+        GameSession session = session(gameEngine);
+        List<Long> ticksSeen = new ArrayList<>();
+        assertTrue(session.submit(() -> ticksSeen.add(gameEngine.numTicks)));
+        assertTrue(session.submit(() -> ticksSeen.add(gameEngine.numTicks)));
+
+        session.tick(FIRST_DEADLINE);
+        session.tick(FIRST_DEADLINE + PERIOD);
+
+        assertEquals(List.of(0L, 0L), ticksSeen);
+        assertEquals(2, gameEngine.numTicks);
+    }
+
+    /**
+     * Game engine that only counts its ticks
+     */
+    private static final class CountingEngine implements GameEngine {
+        private long numTicks;
+
+        @Override
+        public List<Renderable> getRenderables() {
+            return List.of();
+        }
+
+        @Override
+        public void startGame() {
+        }
+
+        @Override
+        public void moveUp() {
+        }
+
+        @Override
+        public void moveDown() {
+        }
+
+        @Override
+        public void moveLeft() {
+        }
+
+        @Override
+        public void moveRight() {
+        }
+
+        @Override
+        public void tick() {
+            numTicks++;
+        }
+
+        @Override
+        public void addObserver(GameObserver observer) {
+        }
+
+        @Override
+        public void removeObserver(GameObserver observer) {
+        }
+
+        @Override
+        public int getScore() {
+            return 0;
+        }
+
+        @Override
+        public long getSeed() {
+            return 0;
+        }
+
+        @Override
+        public int getLives() {
+            return 0;
+        }
+
+        @Override
+        public boolean isGameOver() {
+            return false;
+        }
+
+        @Override
+        public boolean isLevelComplete() {
+            return false;
+        }
+
+        @Override
+        public boolean isReadyToStart() {
+            return false;
+        }
+
+        @Override
+        public void dumpGhostTraces(PrintStream out) {
+        }
+    }
+}